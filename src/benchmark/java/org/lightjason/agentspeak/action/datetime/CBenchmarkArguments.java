@@ -0,0 +1,87 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+
+import javax.annotation.Nonnull;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+
+/**
+ * argument generator of the benchmarks
+ */
+final class CBenchmarkArguments
+{
+    /**
+     * zones of the generated date-time objects
+     */
+    static final String[] ZONES = {"Europe/Berlin", "America/New_York", "Asia/Tokyo", "UTC"};
+
+    /**
+     * ctor
+     */
+    private CBenchmarkArguments()
+    {
+    }
+
+    /**
+     * creates a random date-time
+     *
+     * @param p_random random generator
+     * @return date-time
+     */
+    @Nonnull
+    static ZonedDateTime datetime( @Nonnull final Random p_random )
+    {
+        return ZonedDateTime.of(
+            1980 + p_random.nextInt( 60 ), 1 + p_random.nextInt( 12 ), 1 + p_random.nextInt( 28 ),
+            p_random.nextInt( 24 ), p_random.nextInt( 60 ), p_random.nextInt( 60 ), p_random.nextInt( 1000000000 ),
+            ZoneId.of( ZONES[p_random.nextInt( ZONES.length )] )
+        );
+    }
+
+    /**
+     * shapes the argument list, "flat" passes each
+     * element as argument, "list" passes a single
+     * list term which must be flattened by the action
+     *
+     * @param p_shape shape name
+     * @param p_arguments arguments
+     * @return argument list
+     */
+    @Nonnull
+    static List<ITerm> shape( @Nonnull final String p_shape, @Nonnull final List<ITerm> p_arguments )
+    {
+        return "list".equals( p_shape )
+               ? Collections.singletonList( CRawTerm.of( p_arguments ) )
+               : p_arguments;
+    }
+
+}
@@ -0,0 +1,181 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import com.codepoetics.protonpack.StreamUtils;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Days;
+import org.joda.time.Instant;
+import org.joda.time.Months;
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * benchmark of the between actions, compares the
+ * java.time implementation with the former Joda-Time
+ * conversion of each date-time pair
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.Throughput )
+@Fork( 1 )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+public class CBetweenJodaBenchmark
+{
+    /**
+     * number of date-time pairs
+     */
+    @Param( {"1", "1000"} )
+    private int m_pairs;
+    /**
+     * arguments
+     */
+    private List<ITerm> m_arguments;
+    /**
+     * days-between action
+     */
+    private final IAction m_days = new CDaysBetween();
+    /**
+     * months-between action
+     */
+    private final IAction m_months = new CMonthsBetween();
+
+    /**
+     * creates the date-time pairs
+     */
+    @Setup
+    public void setup()
+    {
+        final Random l_random = new Random( 42 );
+        m_arguments = IntStream.range( 0, 2 * m_pairs )
+                               .mapToObj( i -> CBenchmarkArguments.datetime( l_random ) )
+                               .map( CRawTerm::of )
+                               .collect( Collectors.toList() );
+    }
+
+    /**
+     * days between with java.time
+     *
+     * @return result list
+     */
+    @Benchmark
+    public List<ITerm> daysjavatime()
+    {
+        final List<ITerm> l_return = new ArrayList<>( m_pairs );
+        m_days.execute( false, IContext.EMPTYPLAN, m_arguments, l_return );
+        return l_return;
+    }
+
+    /**
+     * days between with Joda-Time
+     *
+     * @return result list
+     */
+    @Benchmark
+    public List<ITerm> daysjoda()
+    {
+        final List<ITerm> l_return = new ArrayList<>( m_pairs );
+        joda( m_arguments )
+            .map( i -> Days.daysBetween( i.get( 0 ), i.get( 1 ) ) )
+            .mapToDouble( Days::getDays )
+            .boxed()
+            .map( CRawTerm::of )
+            .forEach( l_return::add );
+        return l_return;
+    }
+
+    /**
+     * months between with java.time
+     *
+     * @return result list
+     */
+    @Benchmark
+    public List<ITerm> monthsjavatime()
+    {
+        final List<ITerm> l_return = new ArrayList<>( m_pairs );
+        m_months.execute( false, IContext.EMPTYPLAN, m_arguments, l_return );
+        return l_return;
+    }
+
+    /**
+     * months between with Joda-Time
+     *
+     * @return result list
+     */
+    @Benchmark
+    public List<ITerm> monthsjoda()
+    {
+        final List<ITerm> l_return = new ArrayList<>( m_pairs );
+        joda( m_arguments )
+            .map( i -> Months.monthsBetween( i.get( 0 ), i.get( 1 ) ) )
+            .mapToDouble( Months::getMonths )
+            .boxed()
+            .map( CRawTerm::of )
+            .forEach( l_return::add );
+        return l_return;
+    }
+
+    /**
+     * former conversion of the arguments into Joda instant pairs
+     *
+     * @param p_arguments arguments
+     * @return stream of instant pairs
+     */
+    private static Stream<List<Instant>> joda( final List<ITerm> p_arguments )
+    {
+        return StreamUtils.windowed(
+            CCommon.flatten( p_arguments )
+                   .map( ITerm::<ZonedDateTime>raw )
+                   .map( i -> new DateTime( i.toInstant().toEpochMilli(), DateTimeZone.forTimeZone( TimeZone.getTimeZone( i.getZone() ) ) ) )
+                   .map( Instant::new ),
+            2,
+            2
+        );
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * benchmark of the bucket action with hour windows on 10k
+ * date-time objects of one week, the score is the number
+ * of counted date-time objects per second, the action is
+ * compared with a truncation and a map of date-time objects
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.Throughput )
+@Fork( 1 )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+public class CBucketBenchmark
+{
+    /**
+     * number of date-time objects
+     */
+    private static final int ELEMENTS = 10000;
+    /**
+     * zone
+     */
+    private static final String ZONE = "Europe/Berlin";
+    /**
+     * action
+     */
+    private final IAction m_bucket = new CBucket();
+    /**
+     * date-time objects
+     */
+    private List<ZonedDateTime> m_datetimes;
+    /**
+     * arguments
+     */
+    private List<ITerm> m_arguments;
+
+    /**
+     * creates the arguments
+     */
+    @Setup
+    public void setup()
+    {
+        final Random l_random = new Random( 42 );
+        final ZonedDateTime l_start = ZonedDateTime.of( 2020, 3, 1, 0, 0, 0, 0, ZoneId.of( ZONE ) );
+
+        m_datetimes = IntStream.range( 0, ELEMENTS )
+                               .mapToObj( i -> l_start.plusSeconds( l_random.nextInt( 604800 ) ) )
+                               .collect( Collectors.toList() );
+        m_arguments = Stream.concat( Stream.of( 1, "hours", ZONE ), m_datetimes.stream() ).map( CRawTerm::of ).collect( Collectors.toList() );
+    }
+
+    /**
+     * counts with the action
+     *
+     * @return result list
+     */
+    @Benchmark
+    @OperationsPerInvocation( ELEMENTS )
+    public List<ITerm> action()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        m_bucket.execute( false, IContext.EMPTYPLAN, m_arguments, l_return );
+        return l_return;
+    }
+
+    /**
+     * counts with truncated date-time objects
+     *
+     * @return result list
+     */
+    @Benchmark
+    @OperationsPerInvocation( ELEMENTS )
+    public List<ITerm> truncate()
+    {
+        final Map<ZonedDateTime, Integer> l_counter = new TreeMap<>();
+        m_datetimes.forEach( i -> l_counter.merge( i.truncatedTo( ChronoUnit.HOURS ), 1, Integer::sum ) );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        l_counter.forEach( ( i, j ) ->
+        {
+            l_return.add( CRawTerm.of( i ) );
+            l_return.add( CRawTerm.of( j ) );
+        } );
+        return l_return;
+    }
+
+}
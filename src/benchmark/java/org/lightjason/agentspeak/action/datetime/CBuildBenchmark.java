@@ -0,0 +1,118 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * benchmark of the build action
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.Throughput )
+@Fork( 1 )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+public class CBuildBenchmark
+{
+    /**
+     * number of tuples
+     */
+    @Param( {"1", "1000"} )
+    private int m_tuples;
+    /**
+     * zone definition
+     */
+    @Param( {"current", "Europe/Berlin"} )
+    private String m_zone;
+    /**
+     * argument shape
+     */
+    @Param( {"flat", "list"} )
+    private String m_shape;
+    /**
+     * action
+     */
+    private final IAction m_build = new CBuild();
+    /**
+     * arguments
+     */
+    private List<ITerm> m_arguments;
+
+    /**
+     * creates the tuples
+     */
+    @Setup
+    public void setup()
+    {
+        final Random l_random = new Random( 42 );
+
+        m_arguments = CBenchmarkArguments.shape(
+            m_shape,
+            IntStream.range( 0, m_tuples )
+                     .mapToObj( i -> Stream.of(
+                         1980 + l_random.nextInt( 60 ), 1 + l_random.nextInt( 12 ), 1 + l_random.nextInt( 28 ),
+                         l_random.nextInt( 24 ), l_random.nextInt( 60 ), l_random.nextInt( 60 ), l_random.nextInt( 1000000000 ),
+                         m_zone
+                     ) )
+                     .flatMap( i -> i )
+                     .map( CRawTerm::of )
+                     .collect( Collectors.toList() )
+        );
+    }
+
+    /**
+     * executes the action
+     *
+     * @return result list
+     */
+    @Benchmark
+    public List<ITerm> execute()
+    {
+        final List<ITerm> l_return = new ArrayList<>( m_tuples );
+        m_build.execute( false, IContext.EMPTYPLAN, m_arguments, l_return );
+        return l_return;
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import com.codepoetics.protonpack.StreamUtils;
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * benchmark of the zone resolution of the build action on
+ * 100k tuples, the score is the number of tuples per second,
+ * the cached resolution is compared with the former direct
+ * zone-id lookup for each tuple
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.Throughput )
+@Fork( 1 )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+public class CBuildZoneBenchmark
+{
+    /**
+     * number of tuples
+     */
+    private static final int TUPLES = 100000;
+    /**
+     * zone definition
+     */
+    @Param( {"current", "Europe/Berlin", "mixed"} )
+    private String m_zone;
+    /**
+     * action
+     */
+    private final IAction m_build = new CBuild();
+    /**
+     * arguments
+     */
+    private List<ITerm> m_arguments;
+
+    /**
+     * creates the tuples
+     */
+    @Setup
+    public void setup()
+    {
+        final Random l_random = new Random( 42 );
+
+        m_arguments = IntStream.range( 0, TUPLES )
+                               .mapToObj( i -> Stream.of(
+                                   1980 + l_random.nextInt( 60 ), 1 + l_random.nextInt( 12 ), 1 + l_random.nextInt( 28 ),
+                                   l_random.nextInt( 24 ), l_random.nextInt( 60 ), l_random.nextInt( 60 ), l_random.nextInt( 1000000000 ),
+                                   "mixed".equals( m_zone ) ? CBenchmarkArguments.ZONES[l_random.nextInt( CBenchmarkArguments.ZONES.length )] : m_zone
+                               ) )
+                               .flatMap( i -> i )
+                               .map( CRawTerm::of )
+                               .collect( Collectors.toList() );
+    }
+
+    /**
+     * build with the cached zone resolution
+     *
+     * @return result list
+     */
+    @Benchmark
+    @OperationsPerInvocation( TUPLES )
+    public List<ITerm> cached()
+    {
+        final List<ITerm> l_return = new ArrayList<>( TUPLES );
+        m_build.execute( false, IContext.EMPTYPLAN, m_arguments, l_return );
+        return l_return;
+    }
+
+    /**
+     * build with the former zone resolution
+     *
+     * @return result list
+     */
+    @Benchmark
+    @OperationsPerInvocation( TUPLES )
+    public List<ITerm> uncached()
+    {
+        final List<ITerm> l_return = new ArrayList<>( TUPLES );
+        StreamUtils.windowed( CCommon.flatten( m_arguments ), 8, 8 )
+                   .map( CBuildZoneBenchmark::apply )
+                   .map( CRawTerm::of )
+                   .forEach( l_return::add );
+        return l_return;
+    }
+
+    /**
+     * former creation of the date-time object
+     *
+     * @param p_elements term elements
+     * @return date-time object
+     */
+    private static ZonedDateTime apply( final List<ITerm> p_elements )
+    {
+        return ZonedDateTime.of(
+            p_elements.get( 0 ).<Number>raw().intValue(),
+            p_elements.get( 1 ).<Number>raw().intValue(),
+            p_elements.get( 2 ).<Number>raw().intValue(),
+            p_elements.get( 3 ).<Number>raw().intValue(),
+            p_elements.get( 4 ).<Number>raw().intValue(),
+            p_elements.get( 5 ).<Number>raw().intValue(),
+            p_elements.get( 6 ).<Number>raw().intValue(),
+            ( "current".equalsIgnoreCase( p_elements.get( 7 ).<String>raw().trim() ) ) || ( p_elements.get( 7 ).<String>raw().trim().isEmpty() )
+            ? ZoneId.systemDefault()
+            : ZoneId.of( p_elements.get( 7 ).<String>raw().trim() )
+        );
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+
+/**
+ * benchmark of the business calendar, the bitset
+ * calendar is compared with a day-by-day loop
+ * over a holiday set
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.Throughput )
+@Fork( 1 )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+public class CBusinessDaysBenchmark
+{
+    /**
+     * number of dates
+     */
+    private static final int DATES = 1024;
+    /**
+     * number of business days
+     */
+    @Param( {"5", "250"} )
+    private int m_days;
+    /**
+     * holidays
+     */
+    private Set<LocalDate> m_holidays;
+    /**
+     * calendar
+     */
+    private CBusinessCalendar m_calendar;
+    /**
+     * dates
+     */
+    private LocalDate[] m_dates;
+    /**
+     * date index
+     */
+    private int m_index;
+
+    /**
+     * creates the calendar and dates
+     */
+    @Setup
+    public void setup()
+    {
+        final Random l_random = new Random( 42 );
+        m_holidays = IntStream.range( 0, 1000 )
+                              .mapToObj( i -> LocalDate.of( 1980, 1, 1 ).plusDays( l_random.nextInt( 25000 ) ) )
+                              .collect( Collectors.toSet() );
+        m_calendar = CBusinessCalendar.of( 1980, 2050, m_holidays );
+        m_dates = IntStream.range( 0, DATES )
+                           .mapToObj( i -> LocalDate.of( 1990, 1, 1 ).plusDays( l_random.nextInt( 10000 ) ) )
+                           .toArray( LocalDate[]::new );
+    }
+
+    /**
+     * adds business days with the calendar
+     *
+     * @return date
+     */
+    @Benchmark
+    public LocalDate calendar()
+    {
+        return m_calendar.plus( this.date(), m_days );
+    }
+
+    /**
+     * adds business days day by day
+     *
+     * @return date
+     */
+    @Benchmark
+    public LocalDate loop()
+    {
+        LocalDate l_date = this.date();
+        for ( int i = m_days; i > 0; )
+        {
+            l_date = l_date.plusDays( 1 );
+            if ( l_date.getDayOfWeek() != DayOfWeek.SATURDAY && l_date.getDayOfWeek() != DayOfWeek.SUNDAY && !m_holidays.contains( l_date ) )
+                i--;
+        }
+        return l_date;
+    }
+
+    /**
+     * counts business days with the calendar
+     *
+     * @return number of business days
+     */
+    @Benchmark
+    public long between()
+    {
+        final LocalDate l_date = this.date();
+        return m_calendar.between( l_date, l_date.plusDays( m_days ) );
+    }
+
+    /**
+     * returns the next date
+     *
+     * @return date
+     */
+    private LocalDate date()
+    {
+        m_index = ( m_index + 1 ) % DATES;
+        return m_dates[m_index];
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * benchmark of the current date-time
+ * with the different clocks
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.Throughput )
+@Fork( 1 )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+public class CClockBenchmark
+{
+    /**
+     * clock
+     */
+    @Param( {"system", "coarse", "simulated"} )
+    private String m_clock;
+    /**
+     * action
+     */
+    private final IAction m_create = new CCreate();
+    /**
+     * previous clock
+     */
+    private IClock m_previous;
+
+    /**
+     * sets the clock
+     */
+    @Setup
+    public void setup()
+    {
+        switch ( m_clock )
+        {
+            case "coarse":
+                m_previous = IDateTime.clock( new CCoarseClock( Duration.ofMillis( 1 ) ) );
+                break;
+
+            case "simulated":
+                m_previous = IDateTime.clock( new CSimulatedClock( ZonedDateTime.now() ) );
+                break;
+
+            default:
+                m_previous = IDateTime.clock( IClock.SYSTEM );
+        }
+    }
+
+    /**
+     * restores the clock
+     */
+    @TearDown
+    public void teardown()
+    {
+        IDateTime.clock( m_previous );
+    }
+
+    /**
+     * creates the current date-time
+     *
+     * @return result list
+     */
+    @Benchmark
+    public List<ITerm> now()
+    {
+        final List<ITerm> l_return = new ArrayList<>( 1 );
+        m_create.execute( false, IContext.EMPTYPLAN, Collections.emptyList(), l_return );
+        return l_return;
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * benchmark of the comparison actions against
+ * a sign test of the between action and
+ * the date-time comparison methods
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.Throughput )
+@Fork( 1 )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+public class CCompareBenchmark
+{
+    /**
+     * before action
+     */
+    private static final IAction BEFORE = new CBefore();
+    /**
+     * between action
+     */
+    private static final IAction BETWEEN = new CSecondsBetween();
+    /**
+     * number of date-time pairs
+     */
+    @Param( {"1", "1000"} )
+    private int m_pairs;
+    /**
+     * pair arguments
+     */
+    private List<ITerm> m_arguments;
+    /**
+     * pivot arguments
+     */
+    private List<ITerm> m_pivot;
+
+    /**
+     * creates the arguments
+     */
+    @Setup
+    public void setup()
+    {
+        final Random l_random = new Random( 42 );
+
+        m_arguments = IntStream.range( 0, 2 * m_pairs )
+                               .mapToObj( i -> CBenchmarkArguments.datetime( l_random ) )
+                               .map( CRawTerm::of )
+                               .collect( Collectors.toList() );
+        m_pivot = Stream.concat( Stream.of( CRawTerm.of( "pivot" ) ), m_arguments.stream().limit( m_pairs + 1 ) ).collect( Collectors.toList() );
+    }
+
+    /**
+     * compares pairs with the before action
+     *
+     * @return result list
+     */
+    @Benchmark
+    public List<ITerm> before()
+    {
+        final List<ITerm> l_return = new ArrayList<>( m_pairs );
+        BEFORE.execute( false, IContext.EMPTYPLAN, m_arguments, l_return );
+        return l_return;
+    }
+
+    /**
+     * compares values with a pivot with the before action
+     *
+     * @return result list
+     */
+    @Benchmark
+    public List<ITerm> pivot()
+    {
+        final List<ITerm> l_return = new ArrayList<>( m_pairs );
+        BEFORE.execute( false, IContext.EMPTYPLAN, m_pivot, l_return );
+        return l_return;
+    }
+
+    /**
+     * compares pairs by the sign of the between action
+     *
+     * @return result list
+     */
+    @Benchmark
+    public List<ITerm> between()
+    {
+        final List<ITerm> l_return = new ArrayList<>( m_pairs );
+        BETWEEN.execute( false, IContext.EMPTYPLAN, m_arguments, l_return );
+        return l_return.stream().map( i -> CRawTerm.of( i.<Number>raw().longValue() > 0 ) ).collect( Collectors.toList() );
+    }
+
+    /**
+     * compares pairs with the date-time method
+     *
+     * @return result list
+     */
+    @Benchmark
+    public List<ITerm> isbefore()
+    {
+        final List<ITerm> l_return = new ArrayList<>( m_pairs );
+        for ( int i = 0; i < m_pairs; i++ )
+            l_return.add( CRawTerm.of( m_arguments.get( 2 * i ).<ZonedDateTime>raw().isBefore( m_arguments.get( 2 * i + 1 ).raw() ) ) );
+        return l_return;
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * benchmark of the creation of date-time objects of epoch
+ * milliseconds, the score is the number of created objects
+ * per second, the epoch action is compared with the former
+ * way over iso strings and the create action
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.Throughput )
+@Fork( 1 )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+public class CEpochBenchmark
+{
+    /**
+     * number of values
+     */
+    private static final int ELEMENTS = 10000;
+    /**
+     * zone
+     */
+    private static final String ZONE = "Europe/Berlin";
+    /**
+     * input
+     */
+    @Param( {"fromepoch", "compact", "isostring"} )
+    private String m_input;
+    /**
+     * from-epoch action
+     */
+    private final IAction m_fromepoch = new CFromEpoch();
+    /**
+     * create action
+     */
+    private final IAction m_create = new CCreate();
+    /**
+     * epoch values
+     */
+    private long[] m_values;
+    /**
+     * arguments
+     */
+    private List<ITerm> m_arguments;
+
+    /**
+     * creates the arguments
+     */
+    @Setup
+    public void setup()
+    {
+        m_values = new Random( 42 ).longs( ELEMENTS, 0, 4102444800000L ).toArray();
+        m_arguments = Stream.concat(
+            "compact".equals( m_input ) ? Stream.of( "compact", ZONE ) : Stream.of( ZONE ),
+            Arrays.stream( m_values ).boxed()
+        ).map( CRawTerm::of ).collect( Collectors.toList() );
+    }
+
+    /**
+     * creates the date-time objects
+     *
+     * @return result list
+     */
+    @Benchmark
+    @OperationsPerInvocation( ELEMENTS )
+    public List<ITerm> execute()
+    {
+        final List<ITerm> l_return = new ArrayList<>( ELEMENTS );
+
+        if ( "isostring".equals( m_input ) )
+            m_create.execute(
+                false, IContext.EMPTYPLAN,
+                Arrays.stream( m_values )
+                      .mapToObj( i -> Instant.ofEpochMilli( i ).atZone( ZoneId.of( ZONE ) ).toString() )
+                      .map( CRawTerm::of )
+                      .collect( Collectors.toList() ),
+                l_return
+            );
+        else
+            m_fromepoch.execute( false, IContext.EMPTYPLAN, m_arguments, l_return );
+
+        return l_return;
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * benchmark of the field extraction of the date and time
+ * actions without the argument processing, the cached field
+ * terms are compared with the former creation of new terms,
+ * the allocation rate is reported by the gc profiler of the
+ * benchmark profile
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.Throughput )
+@Fork( 1 )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+public class CFieldBenchmark
+{
+    /**
+     * date action
+     */
+    private final CDate m_date = new CDate();
+    /**
+     * time action
+     */
+    private final CTime m_time = new CTime();
+    /**
+     * date-time
+     */
+    private ZonedDateTime m_datetime;
+    /**
+     * return list, which is reused
+     */
+    private final List<ITerm> m_return = new ArrayList<>( 16 );
+
+    /**
+     * creates the date-time
+     */
+    @Setup
+    public void setup()
+    {
+        m_datetime = ZonedDateTime.parse( "2017-06-14T13:27:45Z[Europe/Paris]" );
+    }
+
+    /**
+     * date extraction with cached terms
+     *
+     * @return result list
+     */
+    @Benchmark
+    public List<ITerm> date()
+    {
+        m_return.clear();
+        m_date.elements( m_datetime, m_return );
+        return m_return;
+    }
+
+    /**
+     * time extraction with cached terms
+     *
+     * @return result list
+     */
+    @Benchmark
+    public List<ITerm> time()
+    {
+        m_return.clear();
+        m_time.elements( m_datetime, m_return );
+        return m_return;
+    }
+
+    /**
+     * former date extraction
+     *
+     * @return result list
+     */
+    @Benchmark
+    public List<ITerm> formerdate()
+    {
+        m_return.clear();
+        m_return.add( CRawTerm.of( m_datetime.getYear() ) );
+        m_return.add( CRawTerm.of( m_datetime.getMonthValue() ) );
+        m_return.add( CRawTerm.of( m_datetime.getDayOfMonth() ) );
+        m_return.add( CRawTerm.of( m_datetime.getDayOfWeek().toString() ) );
+        m_return.add( CRawTerm.of( m_datetime.getDayOfYear() ) );
+        return m_return;
+    }
+
+    /**
+     * former time extraction
+     *
+     * @return result list
+     */
+    @Benchmark
+    public List<ITerm> formertime()
+    {
+        m_return.clear();
+        m_return.add( CRawTerm.of( m_datetime.getHour() ) );
+        m_return.add( CRawTerm.of( m_datetime.getMinute() ) );
+        m_return.add( CRawTerm.of( m_datetime.getSecond() ) );
+        m_return.add( CRawTerm.of( m_datetime.getNano() ) );
+        return m_return;
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * benchmark of the format action, the score is the
+ * number of formatted date-time objects per second,
+ * the cached formatter is compared with a formatter
+ * which is compiled on each call
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.Throughput )
+@Fork( 1 )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+public class CFormatBenchmark
+{
+    /**
+     * number of date-time objects
+     */
+    private static final int ELEMENTS = 100;
+    /**
+     * pattern
+     */
+    private static final String PATTERN = "dd.MM.yyyy HH:mm:ss";
+    /**
+     * action
+     */
+    private final IAction m_format = new CFormat();
+    /**
+     * date-time objects
+     */
+    private List<ZonedDateTime> m_datetimes;
+    /**
+     * arguments
+     */
+    private List<ITerm> m_arguments;
+
+    /**
+     * creates the arguments
+     */
+    @Setup
+    public void setup()
+    {
+        final Random l_random = new Random( 42 );
+        m_datetimes = IntStream.range( 0, ELEMENTS ).mapToObj( i -> CBenchmarkArguments.datetime( l_random ) ).collect( Collectors.toList() );
+        m_arguments = Stream.concat( Stream.of( PATTERN ), m_datetimes.stream() ).map( CRawTerm::of ).collect( Collectors.toList() );
+    }
+
+    /**
+     * formats with the cached formatter
+     *
+     * @return result list
+     */
+    @Benchmark
+    @OperationsPerInvocation( ELEMENTS )
+    public List<ITerm> cached()
+    {
+        final List<ITerm> l_return = new ArrayList<>( ELEMENTS );
+        m_format.execute( false, IContext.EMPTYPLAN, m_arguments, l_return );
+        return l_return;
+    }
+
+    /**
+     * formats with a formatter, which is compiled for each date-time object
+     *
+     * @return result list
+     */
+    @Benchmark
+    @OperationsPerInvocation( ELEMENTS )
+    public List<ITerm> uncached()
+    {
+        final List<ITerm> l_return = new ArrayList<>( ELEMENTS );
+        m_datetimes.stream()
+                   .map( i -> DateTimeFormatter.ofPattern( PATTERN ).format( i ) )
+                   .map( CRawTerm::of )
+                   .forEach( l_return::add );
+        return l_return;
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+
+/**
+ * benchmark of the instrumented action
+ * with disabled and enabled recording
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.Throughput )
+@Fork( 1 )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+public class CInstrumentedActionBenchmark
+{
+    /**
+     * action
+     */
+    private static final IAction ACTION = new CSecondsBetween();
+    /**
+     * instrumented action
+     */
+    private static final IAction INSTRUMENTED = CInstrumentedAction.of( ACTION );
+    /**
+     * number of date-time pairs
+     */
+    @Param( {"1", "1000"} )
+    private int m_pairs;
+    /**
+     * recording flag
+     */
+    @Param( {"false", "true"} )
+    private boolean m_enabled;
+    /**
+     * arguments
+     */
+    private List<ITerm> m_arguments;
+
+    /**
+     * creates the arguments
+     */
+    @Setup
+    public void setup()
+    {
+        final Random l_random = new Random( 42 );
+
+        CActionMetrics.enabled( m_enabled );
+        m_arguments = IntStream.range( 0, 2 * m_pairs )
+                               .mapToObj( i -> CBenchmarkArguments.datetime( l_random ) )
+                               .map( CRawTerm::of )
+                               .collect( Collectors.toList() );
+    }
+
+    /**
+     * disables recording
+     */
+    @TearDown
+    public void teardown()
+    {
+        CActionMetrics.enabled( false );
+    }
+
+    /**
+     * executes the action
+     *
+     * @return result list
+     */
+    @Benchmark
+    public List<ITerm> plain()
+    {
+        final List<ITerm> l_return = new ArrayList<>( m_pairs );
+        ACTION.execute( false, IContext.EMPTYPLAN, m_arguments, l_return );
+        return l_return;
+    }
+
+    /**
+     * executes the instrumented action
+     *
+     * @return result list
+     */
+    @Benchmark
+    public List<ITerm> instrumented()
+    {
+        final List<ITerm> l_return = new ArrayList<>( m_pairs );
+        INSTRUMENTED.execute( false, IContext.EMPTYPLAN, m_arguments, l_return );
+        return l_return;
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+
+/**
+ * benchmark of the interval tree queries,
+ * the tree is compared with a linear scan
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.Throughput )
+@Fork( 1 )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+public class CIntervalBenchmark
+{
+    /**
+     * number of queries
+     */
+    private static final int QUERIES = 1024;
+    /**
+     * number of intervals
+     */
+    @Param( {"1000", "100000"} )
+    private int m_intervals;
+    /**
+     * sorted intervals
+     */
+    private List<CDateTimeInterval> m_list;
+    /**
+     * interval tree
+     */
+    private CIntervalTree m_tree;
+    /**
+     * queries
+     */
+    private CDateTimeInterval[] m_queries;
+    /**
+     * query index
+     */
+    private int m_index;
+
+    /**
+     * creates the intervals and queries
+     */
+    @Setup
+    public void setup()
+    {
+        final Random l_random = new Random( 42 );
+
+        m_list = IntStream.range( 0, m_intervals )
+                          .mapToObj( i -> interval( l_random, 3600 ) )
+                          .sorted()
+                          .collect( Collectors.toList() );
+        m_tree = CIntervalTree.of( m_list );
+        m_queries = IntStream.range( 0, QUERIES )
+                             .mapToObj( i -> interval( l_random, 60 ) )
+                             .toArray( CDateTimeInterval[]::new );
+    }
+
+    /**
+     * overlap query on the tree
+     *
+     * @return matching intervals
+     */
+    @Benchmark
+    public List<CDateTimeInterval> tree()
+    {
+        return m_tree.overlaps( this.query() );
+    }
+
+    /**
+     * overlap query with a linear scan
+     *
+     * @return matching intervals
+     */
+    @Benchmark
+    public List<CDateTimeInterval> scan()
+    {
+        final CDateTimeInterval l_query = this.query();
+        return m_list.stream().filter( i -> i.overlaps( l_query ) ).collect( Collectors.toList() );
+    }
+
+    /**
+     * returns the next query
+     *
+     * @return query
+     */
+    private CDateTimeInterval query()
+    {
+        m_index = ( m_index + 1 ) % QUERIES;
+        return m_queries[m_index];
+    }
+
+    /**
+     * creates a random interval
+     *
+     * @param p_random random generator
+     * @param p_length maximum length in seconds
+     * @return interval
+     */
+    private static CDateTimeInterval interval( final Random p_random, final int p_length )
+    {
+        final ZonedDateTime l_start = CBenchmarkArguments.datetime( p_random );
+        return CDateTimeInterval.of( l_start, l_start.plusSeconds( p_random.nextInt( p_length ) ) );
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.ZonedDateTime;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+
+/**
+ * benchmark of the iso-8601 parser against the jdk parser
+ * on distinct strings, the score is the number of parsed
+ * strings per second
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.Throughput )
+@Fork( 1 )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+public class CIsoParserBenchmark
+{
+    /**
+     * number of strings
+     */
+    private static final int STRINGS = 1000;
+    /**
+     * string shape
+     */
+    @Param( {"zoned", "offset"} )
+    private String m_shape;
+    /**
+     * strings
+     */
+    private String[] m_strings;
+
+    /**
+     * creates the strings
+     */
+    @Setup
+    public void setup()
+    {
+        final Random l_random = new Random( 42 );
+        m_strings = IntStream.range( 0, STRINGS )
+                             .mapToObj( i -> CBenchmarkArguments.datetime( l_random ) )
+                             .map( i -> "offset".equals( m_shape ) ? i.toOffsetDateTime().toString() : i.toString() )
+                             .toArray( String[]::new );
+    }
+
+    /**
+     * parses with the iso-8601 parser
+     *
+     * @param p_blackhole blackhole
+     */
+    @Benchmark
+    @OperationsPerInvocation( STRINGS )
+    public void iso( final Blackhole p_blackhole )
+    {
+        for ( final String i : m_strings )
+            p_blackhole.consume( CIsoParser.parse( i ) );
+    }
+
+    /**
+     * parses with the jdk parser
+     *
+     * @param p_blackhole blackhole
+     */
+    @Benchmark
+    @OperationsPerInvocation( STRINGS )
+    public void jdk( final Blackhole p_blackhole )
+    {
+        for ( final String i : m_strings )
+            p_blackhole.consume( ZonedDateTime.parse( i ) );
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * benchmark of the plus / minus actions
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.Throughput )
+@Fork( 1 )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+public class CPlusMinusBenchmark
+{
+    /**
+     * actions
+     */
+    private static final Map<String, IAction> ACTIONS = Map.of(
+        "applyyears", new CApplyYears(),
+        "applymonths", new CApplyMonths(),
+        "applydays", new CApplyDays(),
+        "applyhours", new CApplyHours(),
+        "applyminutes", new CApplyMinutes(),
+        "applyseconds", new CApplySeconds(),
+        "applynanoseconds", new CApplyNanoSeconds()
+    );
+    /**
+     * action name
+     */
+    @Param( {"applyyears", "applymonths", "applydays", "applyhours", "applyminutes", "applyseconds", "applynanoseconds"} )
+    private String m_action;
+    /**
+     * operator
+     */
+    @Param( {"plus", "minus"} )
+    private String m_operator;
+    /**
+     * number of elements
+     */
+    @Param( {"1", "1000"} )
+    private int m_elements;
+    /**
+     * argument shape
+     */
+    @Param( {"flat", "list"} )
+    private String m_shape;
+    /**
+     * executing action
+     */
+    private IAction m_execute;
+    /**
+     * arguments
+     */
+    private List<ITerm> m_arguments;
+
+    /**
+     * creates the arguments
+     */
+    @Setup
+    public void setup()
+    {
+        final Random l_random = new Random( 42 );
+
+        m_execute = ACTIONS.get( m_action );
+        m_arguments = Stream.concat(
+            Stream.of( CRawTerm.of( m_operator ), CRawTerm.of( 3 ) ),
+            CBenchmarkArguments.shape(
+                m_shape,
+                IntStream.range( 0, m_elements )
+                         .mapToObj( i -> CBenchmarkArguments.datetime( l_random ) )
+                         .map( CRawTerm::of )
+                         .collect( Collectors.toList() )
+            ).stream()
+        ).collect( Collectors.toList() );
+    }
+
+    /**
+     * executes the action
+     *
+     * @return result list
+     */
+    @Benchmark
+    public List<ITerm> execute()
+    {
+        final List<ITerm> l_return = new ArrayList<>( m_elements );
+        m_execute.execute( false, IContext.EMPTYPLAN, m_arguments, l_return );
+        return l_return;
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * benchmark of shifting each date-time by an own
+ * value, one call per date-time is compared with
+ * a single call with pairs or two lists
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.Throughput )
+@Fork( 1 )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+public class CPlusMinusVectorBenchmark
+{
+    /**
+     * number of date-time objects
+     */
+    @Param( {"10", "1000"} )
+    private int m_elements;
+    /**
+     * action
+     */
+    private final IAction m_action = new CApplyDays();
+    /**
+     * arguments of the single calls
+     */
+    private List<List<ITerm>> m_single;
+    /**
+     * arguments as pairs
+     */
+    private List<ITerm> m_pairs;
+    /**
+     * arguments as two lists
+     */
+    private List<ITerm> m_lists;
+
+    /**
+     * creates the arguments
+     */
+    @Setup
+    public void setup()
+    {
+        final Random l_random = new Random( 42 );
+        final List<ITerm> l_datetime = IntStream.range( 0, m_elements )
+                                                .mapToObj( i -> CBenchmarkArguments.datetime( l_random ) )
+                                                .map( CRawTerm::of )
+                                                .collect( Collectors.toList() );
+        final List<ITerm> l_values = IntStream.range( 0, m_elements )
+                                              .mapToObj( i -> CRawTerm.of( l_random.nextInt( 1000 ) ) )
+                                              .collect( Collectors.toList() );
+
+        m_single = IntStream.range( 0, m_elements )
+                            .mapToObj( i -> List.of( CRawTerm.of( "plus" ), l_values.get( i ), l_datetime.get( i ) ) )
+                            .collect( Collectors.toList() );
+
+        m_pairs = Stream.concat(
+            Stream.of( CRawTerm.of( "plus" ) ),
+            IntStream.range( 0, m_elements ).boxed().flatMap( i -> Stream.of( l_datetime.get( i ), l_values.get( i ) ) )
+        ).collect( Collectors.toList() );
+
+        m_lists = List.of( CRawTerm.of( "plus" ), CRawTerm.of( l_datetime ), CRawTerm.of( l_values ) );
+    }
+
+    /**
+     * one call for each date-time
+     *
+     * @return result list
+     */
+    @Benchmark
+    public List<ITerm> single()
+    {
+        final List<ITerm> l_return = new ArrayList<>( m_elements );
+        m_single.forEach( i -> m_action.execute( false, IContext.EMPTYPLAN, i, l_return ) );
+        return l_return;
+    }
+
+    /**
+     * one call with pairs
+     *
+     * @return result list
+     */
+    @Benchmark
+    public List<ITerm> pairs()
+    {
+        final List<ITerm> l_return = new ArrayList<>( m_elements );
+        m_action.execute( false, IContext.EMPTYPLAN, m_pairs, l_return );
+        return l_return;
+    }
+
+    /**
+     * one call with two lists
+     *
+     * @return result list
+     */
+    @Benchmark
+    public List<ITerm> lists()
+    {
+        final List<ITerm> l_return = new ArrayList<>( m_elements );
+        m_action.execute( false, IContext.EMPTYPLAN, m_lists, l_return );
+        return l_return;
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.DayOfWeek;
+import java.time.Month;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+
+/**
+ * benchmark of the next ten fire times of "every monday 08:00"
+ * and "every 29th february 08:00" in Europe/Berlin, the cron
+ * expression is compared with a day-by-day loop, like agents
+ * which apply one day per cycle
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.Throughput )
+@Fork( 1 )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+public class CRecurrenceBenchmark
+{
+    /**
+     * number of start date-times
+     */
+    private static final int DATETIMES = 1024;
+    /**
+     * number of fire times
+     */
+    private static final int FIRETIMES = 10;
+    /**
+     * expressions with the day predicate of the loop
+     */
+    private static final Map<String, Predicate<ZonedDateTime>> EXPRESSIONS = Map.of(
+        "0 8 * * mon", i -> i.getDayOfWeek() == DayOfWeek.MONDAY,
+        "0 8 29 feb *", i -> i.getMonth() == Month.FEBRUARY && i.getDayOfMonth() == 29
+    );
+    /**
+     * expression
+     */
+    @Param( {"0 8 * * mon", "0 8 29 feb *"} )
+    private String m_expression;
+    /**
+     * start date-times
+     */
+    private ZonedDateTime[] m_datetimes;
+    /**
+     * start index
+     */
+    private int m_index;
+
+    /**
+     * creates the start date-times
+     */
+    @Setup
+    public void setup()
+    {
+        final Random l_random = new Random( 42 );
+        m_datetimes = IntStream.range( 0, DATETIMES )
+                               .mapToObj( i -> CBenchmarkArguments.datetime( l_random ).withZoneSameInstant( ZoneId.of( "Europe/Berlin" ) ) )
+                               .toArray( ZonedDateTime[]::new );
+    }
+
+    /**
+     * fire times of the cron expression
+     *
+     * @return fire times
+     */
+    @Benchmark
+    public List<ZonedDateTime> cron()
+    {
+        return CCronExpression.of( m_expression ).next( this.datetime(), FIRETIMES );
+    }
+
+    /**
+     * fire times of a day-by-day loop
+     *
+     * @return fire times
+     */
+    @Benchmark
+    public List<ZonedDateTime> loop()
+    {
+        final List<ZonedDateTime> l_result = new ArrayList<>( FIRETIMES );
+        final ZonedDateTime l_after = this.datetime();
+        final Predicate<ZonedDateTime> l_day = EXPRESSIONS.get( m_expression );
+
+        for ( ZonedDateTime l_datetime = l_after.truncatedTo( ChronoUnit.DAYS ).withHour( 8 ); l_result.size() < FIRETIMES;
+              l_datetime = l_datetime.plusDays( 1 ) )
+            if ( l_day.test( l_datetime ) && l_datetime.isAfter( l_after ) )
+                l_result.add( l_datetime );
+
+        return l_result;
+    }
+
+    /**
+     * returns the next start date-time
+     *
+     * @return date-time
+     */
+    private ZonedDateTime datetime()
+    {
+        m_index = ( m_index + 1 ) % DATETIMES;
+        return m_datetimes[m_index];
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.ZonedDateTime;
+import java.time.chrono.ChronoZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+
+/**
+ * benchmark of the sort action on 1M date-time objects,
+ * the action is compared with a comparator sort of the terms
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Fork( 1 )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+public class CSortBenchmark
+{
+    /**
+     * number of date-time objects
+     */
+    private static final int ELEMENTS = 1000000;
+    /**
+     * comparator of the date-time terms
+     */
+    private static final Comparator<ITerm> COMPARATOR = Comparator.comparing(
+        ( ITerm i ) -> i.<ZonedDateTime>raw(),
+        ChronoZonedDateTime.timeLineOrder()
+    );
+    /**
+     * parallel execution
+     */
+    @Param( {"false", "true"} )
+    private boolean m_parallel;
+    /**
+     * action
+     */
+    private final IAction m_sort = new CSort();
+    /**
+     * arguments
+     */
+    private List<ITerm> m_arguments;
+
+    /**
+     * creates the arguments
+     */
+    @Setup
+    public void setup()
+    {
+        final Random l_random = new Random( 42 );
+        m_arguments = IntStream.range( 0, ELEMENTS )
+                               .mapToObj( i -> CBenchmarkArguments.datetime( l_random ) )
+                               .map( CRawTerm::of )
+                               .collect( Collectors.toList() );
+    }
+
+    /**
+     * sorts with the action
+     *
+     * @return result list
+     */
+    @Benchmark
+    public List<ITerm> action()
+    {
+        final List<ITerm> l_return = new ArrayList<>( ELEMENTS );
+        m_sort.execute( m_parallel, IContext.EMPTYPLAN, m_arguments, l_return );
+        return l_return;
+    }
+
+    /**
+     * sorts with a comparator
+     *
+     * @return result list
+     */
+    @Benchmark
+    public List<ITerm> comparator()
+    {
+        return m_parallel
+               ? m_arguments.parallelStream().sorted( COMPARATOR ).collect( Collectors.toList() )
+               : m_arguments.stream().sorted( COMPARATOR ).collect( Collectors.toList() );
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Random;
+
+
+/**
+ * benchmark of the timing wheel with 100k pending deadlines,
+ * each operation advances the clock by one tick and expired
+ * deadlines are scheduled again, the wheel is compared with
+ * polling all deadlines, like agents which compare the current
+ * date-time with their deadline on each cycle
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.Throughput )
+@Fork( 1 )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+public class CTimerWheelBenchmark
+{
+    /**
+     * number of deadlines
+     */
+    private static final int DEADLINES = 100000;
+    /**
+     * maximum distance of a deadline in milliseconds
+     */
+    private static final int DISTANCE = 1000000;
+    /**
+     * tick duration
+     */
+    private static final Duration TICK = Duration.ofMillis( 10 );
+    /**
+     * random generator
+     */
+    private final Random m_random = new Random( 42 );
+    /**
+     * simulated clock
+     */
+    private CSimulatedClock m_clock;
+    /**
+     * timing wheel
+     */
+    private CTimerWheel<Integer> m_wheel;
+    /**
+     * polled deadlines
+     */
+    private ZonedDateTime[] m_deadlines;
+
+    /**
+     * creates the deadlines
+     */
+    @Setup
+    public void setup()
+    {
+        m_clock = new CSimulatedClock( ZonedDateTime.parse( "2010-01-01T00:00:00Z" ) );
+        m_wheel = new CTimerWheel<>( m_clock, TICK, 4096 );
+        m_deadlines = new ZonedDateTime[DEADLINES];
+
+        for ( int i = 0; i < DEADLINES; i++ )
+        {
+            m_deadlines[i] = this.deadline();
+            m_wheel.schedule( m_deadlines[i], i );
+        }
+    }
+
+    /**
+     * advances the wheel by one tick
+     *
+     * @return number of expired deadlines
+     */
+    @Benchmark
+    public int wheel()
+    {
+        m_clock.advance( TICK );
+        return m_wheel.tick( i -> m_wheel.schedule( this.deadline(), i ) );
+    }
+
+    /**
+     * polls all deadlines
+     *
+     * @return number of expired deadlines
+     */
+    @Benchmark
+    public int polling()
+    {
+        final ZonedDateTime l_now = m_clock.advance( TICK );
+        int l_expired = 0;
+        for ( int i = 0; i < DEADLINES; i++ )
+            if ( !m_deadlines[i].isAfter( l_now ) )
+            {
+                m_deadlines[i] = this.deadline();
+                l_expired++;
+            }
+        return l_expired;
+    }
+
+    /**
+     * creates a random deadline
+     *
+     * @return deadline
+     */
+    private ZonedDateTime deadline()
+    {
+        return m_clock.now().plusNanos( 1000000L * ( 1 + m_random.nextInt( DISTANCE ) ) );
+    }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * benchmark of the zone conversion of 10k date-time objects,
+ * the conversion of zoned and compact date-time objects and
+ * the offset lookup of the transition table and the zone
+ * rules are compared
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Fork( 1 )
+@Warmup( iterations = 3 )
+@Measurement( iterations = 5 )
+public class CToZoneBenchmark
+{
+    /**
+     * number of date-time objects
+     */
+    private static final int ELEMENTS = 10000;
+    /**
+     * target zone
+     */
+    private static final ZoneId ZONE = ZoneId.of( "America/New_York" );
+    /**
+     * action
+     */
+    private final IAction m_tozone = new CToZone();
+    /**
+     * date-time objects
+     */
+    private ZonedDateTime[] m_datetimes;
+    /**
+     * compact date-time objects
+     */
+    private CCompactDateTime[] m_compact;
+    /**
+     * action arguments
+     */
+    private List<ITerm> m_arguments;
+
+    /**
+     * creates the date-time objects
+     */
+    @Setup
+    public void setup()
+    {
+        final Random l_random = new Random( 42 );
+        m_datetimes = IntStream.range( 0, ELEMENTS ).mapToObj( i -> CBenchmarkArguments.datetime( l_random ) ).toArray( ZonedDateTime[]::new );
+        m_compact = Stream.of( m_datetimes ).map( CCompactDateTime::of ).toArray( CCompactDateTime[]::new );
+        m_arguments = Stream.concat( Stream.of( ZONE.getId() ), Stream.of( m_datetimes ) ).map( CRawTerm::of ).collect( Collectors.toList() );
+    }
+
+    /**
+     * converts with the zone rules
+     *
+     * @return date-time objects
+     */
+    @Benchmark
+    public ZonedDateTime[] rules()
+    {
+        final ZonedDateTime[] l_result = new ZonedDateTime[ELEMENTS];
+        for ( int i = 0; i < ELEMENTS; i++ )
+            l_result[i] = m_datetimes[i].withZoneSameInstant( ZONE );
+        return l_result;
+    }
+
+    /**
+     * offsets of the zone rules
+     *
+     * @return sum of the offsets
+     */
+    @Benchmark
+    public long offsetrules()
+    {
+        final ZoneRules l_rules = ZONE.getRules();
+        long l_sum = 0;
+        for ( int i = 0; i < ELEMENTS; i++ )
+            l_sum += l_rules.getOffset( Instant.ofEpochSecond( m_compact[i].epochsecond() ) ).getTotalSeconds();
+        return l_sum;
+    }
+
+    /**
+     * offsets of the transition table
+     *
+     * @return sum of the offsets
+     */
+    @Benchmark
+    public long offsettable()
+    {
+        final CZoneTransitions l_transitions = CZoneTransitions.of( ZONE );
+        long l_sum = 0;
+        for ( int i = 0; i < ELEMENTS; i++ )
+            l_sum += l_transitions.offset( m_compact[i].epochsecond() ).getTotalSeconds();
+        return l_sum;
+    }
+
+    /**
+     * converts compact date-time objects
+     *
+     * @return compact date-time objects
+     */
+    @Benchmark
+    public CCompactDateTime[] compact()
+    {
+        final CCompactDateTime[] l_result = new CCompactDateTime[ELEMENTS];
+        for ( int i = 0; i < ELEMENTS; i++ )
+            l_result[i] = CCompactDateTime.of( m_compact[i].epochnanoseconds(), ZONE );
+        return l_result;
+    }
+
+    /**
+     * converts with the action
+     *
+     * @return result list
+     */
+    @Benchmark
+    public List<ITerm> action()
+    {
+        final List<ITerm> l_return = new ArrayList<>( ELEMENTS );
+        m_tozone.execute( false, IContext.EMPTYPLAN, m_arguments, l_return );
+        return l_return;
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.lightjason.agentspeak.action.IAction;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+
+/**
+ * flight recorder event of an action execution,
+ * the event is disabled by default and must be
+ * enabled on the recording
+ */
+@Name( CActionEvent.NAME )
+@Label( "Date-Time Action" )
+@Description( "execution of a date-time action" )
+@Category( {"LightJason", "Date-Time"} )
+@Enabled( false )
+@StackTrace( false )
+final class CActionEvent extends Event
+{
+    /**
+     * event name
+     */
+    static final String NAME = "org.lightjason.agentspeak.action.datetime.Action";
+
+    /**
+     * action name
+     */
+    @Name( "action" )
+    @Label( "Action" )
+    private String m_action;
+    /**
+     * number of flatten arguments
+     */
+    @Name( "arguments" )
+    @Label( "Arguments" )
+    private int m_arguments;
+    /**
+     * number of returned elements
+     */
+    @Name( "results" )
+    @Label( "Results" )
+    private int m_results;
+    /**
+     * parallel execution flag of the caller
+     */
+    @Name( "parallel" )
+    @Label( "Parallel" )
+    private boolean m_parallel;
+
+    /**
+     * creates and starts the event
+     *
+     * @return event
+     */
+    @Nonnull
+    static CActionEvent start()
+    {
+        final CActionEvent l_event = new CActionEvent();
+        l_event.begin();
+        return l_event;
+    }
+
+    /**
+     * ends the event and commits it, if
+     * the event is enabled on the recording
+     *
+     * @param p_action action
+     * @param p_arguments number of flatten arguments
+     * @param p_results number of returned elements
+     * @param p_parallel parallel execution flag
+     */
+    void finish( @Nonnull final IAction p_action, @Nonnegative final int p_arguments, @Nonnegative final int p_results, final boolean p_parallel )
+    {
+        this.end();
+        if ( !this.shouldCommit() )
+            return;
+
+        m_action = p_action.name().path();
+        m_arguments = p_arguments;
+        m_results = p_results;
+        m_parallel = p_parallel;
+        this.commit();
+    }
+
+}
@@ -0,0 +1,501 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+
+/**
+ * execution metrics of an action.
+ * Stores the number of invocations, processed elements and
+ * errors and a latency histogram with power-of-two buckets,
+ * all values are recorded lock-free, the metrics of all actions
+ * are stored in a global registry, which is readable via
+ * snapshots or JMX, recording is disabled by default
+ *
+ * @see CInstrumentedAction
+ */
+public final class CActionMetrics
+{
+    /**
+     * JMX object name
+     */
+    public static final String OBJECTNAME = "org.lightjason.agentspeak.action.datetime:type=ActionMetrics";
+    /**
+     * number of histogram buckets
+     */
+    static final int BUCKETS = Long.SIZE;
+    /**
+     * metrics of each action name
+     */
+    private static final Map<String, CActionMetrics> METRICS = new ConcurrentHashMap<>();
+    /**
+     * recording flag
+     */
+    private static volatile boolean s_enabled;
+
+    /**
+     * action name
+     */
+    private final String m_name;
+    /**
+     * number of invocations
+     */
+    private final LongAdder m_invocations = new LongAdder();
+    /**
+     * number of processed elements
+     */
+    private final LongAdder m_elements = new LongAdder();
+    /**
+     * number of errors
+     */
+    private final LongAdder m_errors = new LongAdder();
+    /**
+     * sum of all latencies in nano-seconds
+     */
+    private final LongAdder m_latency = new LongAdder();
+    /**
+     * latency histogram, bucket i counts latencies in [2^(i-1), 2^i) nano-seconds
+     */
+    private final LongAdder[] m_histogram = IntStream.range( 0, BUCKETS ).mapToObj( i -> new LongAdder() ).toArray( LongAdder[]::new );
+
+    /**
+     * ctor
+     *
+     * @param p_name action name
+     */
+    private CActionMetrics( @Nonnull final String p_name )
+    {
+        m_name = p_name;
+    }
+
+    /**
+     * returns the metrics of an action
+     *
+     * @param p_name action name
+     * @return metrics
+     */
+    @Nonnull
+    public static CActionMetrics of( @Nonnull final String p_name )
+    {
+        return METRICS.computeIfAbsent( p_name, CActionMetrics::new );
+    }
+
+    /**
+     * returns the recording flag
+     *
+     * @return flag that recording is enabled
+     */
+    public static boolean enabled()
+    {
+        return s_enabled;
+    }
+
+    /**
+     * enables or disables recording
+     *
+     * @param p_enabled recording flag
+     */
+    public static void enabled( final boolean p_enabled )
+    {
+        s_enabled = p_enabled;
+    }
+
+    /**
+     * returns snapshots of all actions
+     *
+     * @return map with action name and snapshot
+     */
+    @Nonnull
+    public static Map<String, CSnapshot> snapshots()
+    {
+        return Collections.unmodifiableMap(
+            METRICS.values().stream().collect( Collectors.toMap( i -> i.m_name, CActionMetrics::snapshot ) )
+        );
+    }
+
+    /**
+     * resets the metrics of all actions
+     */
+    public static void resetall()
+    {
+        METRICS.values().forEach( CActionMetrics::reset );
+    }
+
+    /**
+     * registers the metrics bean on the platform MBean server,
+     * a repeated registration is ignored
+     *
+     * @return object name of the bean
+     */
+    @Nonnull
+    public static ObjectName jmx()
+    {
+        final ObjectName l_name;
+        try
+        {
+            l_name = new ObjectName( OBJECTNAME );
+        }
+        catch ( final MalformedObjectNameException l_exception )
+        {
+            throw new IllegalStateException( l_exception );
+        }
+
+        try
+        {
+            ManagementFactory.getPlatformMBeanServer().registerMBean( new CMXBean(), l_name );
+        }
+        catch ( final InstanceAlreadyExistsException l_exception )
+        {
+            // bean exists
+        }
+        catch ( final JMException l_exception )
+        {
+            throw new IllegalStateException( l_exception );
+        }
+
+        return l_name;
+    }
+
+    /**
+     * records an execution
+     *
+     * @param p_nanoseconds latency in nano-seconds
+     * @param p_elements number of processed elements
+     * @param p_error error flag
+     */
+    void record( final long p_nanoseconds, @Nonnegative final int p_elements, final boolean p_error )
+    {
+        final long l_latency = Math.max( 0, p_nanoseconds );
+
+        m_invocations.increment();
+        m_elements.add( p_elements );
+        m_latency.add( l_latency );
+        m_histogram[BUCKETS - Long.numberOfLeadingZeros( l_latency )].increment();
+        if ( p_error )
+            m_errors.increment();
+    }
+
+    /**
+     * returns the action name
+     *
+     * @return name
+     */
+    @Nonnull
+    public String name()
+    {
+        return m_name;
+    }
+
+    /**
+     * returns a snapshot of the current values,
+     * the values are read without a lock, so a
+     * concurrent recording can be partially visible
+     *
+     * @return snapshot
+     */
+    @Nonnull
+    public CSnapshot snapshot()
+    {
+        return new CSnapshot(
+            m_name,
+            m_invocations.sum(),
+            m_elements.sum(),
+            m_errors.sum(),
+            m_latency.sum(),
+            Arrays.stream( m_histogram ).mapToLong( LongAdder::sum ).toArray()
+        );
+    }
+
+    /**
+     * resets all values
+     */
+    public void reset()
+    {
+        m_invocations.reset();
+        m_elements.reset();
+        m_errors.reset();
+        m_latency.reset();
+        Arrays.stream( m_histogram ).forEach( LongAdder::reset );
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.snapshot().toString();
+    }
+
+
+    /**
+     * immutable snapshot of the metrics
+     */
+    public static final class CSnapshot
+    {
+        /**
+         * action name
+         */
+        private final String m_name;
+        /**
+         * number of invocations
+         */
+        private final long m_invocations;
+        /**
+         * number of processed elements
+         */
+        private final long m_elements;
+        /**
+         * number of errors
+         */
+        private final long m_errors;
+        /**
+         * sum of all latencies in nano-seconds
+         */
+        private final long m_latency;
+        /**
+         * latency histogram
+         */
+        private final long[] m_histogram;
+
+        /**
+         * ctor
+         *
+         * @param p_name action name
+         * @param p_invocations number of invocations
+         * @param p_elements number of processed elements
+         * @param p_errors number of errors
+         * @param p_latency sum of all latencies
+         * @param p_histogram latency histogram
+         */
+        private CSnapshot( @Nonnull final String p_name, final long p_invocations, final long p_elements, final long p_errors,
+                           final long p_latency, @Nonnull final long[] p_histogram
+        )
+        {
+            m_name = p_name;
+            m_invocations = p_invocations;
+            m_elements = p_elements;
+            m_errors = p_errors;
+            m_latency = p_latency;
+            m_histogram = p_histogram;
+        }
+
+        /**
+         * returns the action name
+         *
+         * @return name
+         */
+        @Nonnull
+        public String name()
+        {
+            return m_name;
+        }
+
+        /**
+         * returns the number of invocations
+         *
+         * @return invocations
+         */
+        @Nonnegative
+        public long invocations()
+        {
+            return m_invocations;
+        }
+
+        /**
+         * returns the number of processed elements
+         *
+         * @return elements
+         */
+        @Nonnegative
+        public long elements()
+        {
+            return m_elements;
+        }
+
+        /**
+         * returns the number of errors
+         *
+         * @return errors
+         */
+        @Nonnegative
+        public long errors()
+        {
+            return m_errors;
+        }
+
+        /**
+         * returns the ratio of errors and invocations
+         *
+         * @return error rate
+         */
+        public double errorrate()
+        {
+            return m_invocations == 0 ? 0 : (double) m_errors / m_invocations;
+        }
+
+        /**
+         * returns the mean latency
+         *
+         * @return mean latency in nano-seconds
+         */
+        public double mean()
+        {
+            return m_invocations == 0 ? 0 : (double) m_latency / m_invocations;
+        }
+
+        /**
+         * returns the histogram
+         *
+         * @return copy of the histogram, bucket i counts latencies in [2^(i-1), 2^i) nano-seconds
+         */
+        @Nonnull
+        public long[] histogram()
+        {
+            return m_histogram.clone();
+        }
+
+        /**
+         * returns an upper bound of a latency quantile
+         *
+         * @param p_quantile quantile in [0, 1]
+         * @return upper bound of the bucket which contains the quantile in nano-seconds
+         */
+        public long quantile( final double p_quantile )
+        {
+            if ( p_quantile < 0 || p_quantile > 1 )
+                throw new IllegalArgumentException( "quantile must be in [0, 1]" );
+
+            final long l_total = Arrays.stream( m_histogram ).sum();
+            final long l_rank = Math.max( 1, (long) Math.ceil( p_quantile * l_total ) );
+
+            long l_count = 0;
+            for ( int i = 0; i < m_histogram.length; i++ )
+            {
+                l_count += m_histogram[i];
+                if ( l_count >= l_rank )
+                    return i == BUCKETS - 1 ? Long.MAX_VALUE : ( 1L << i ) - 1;
+            }
+
+            return 0;
+        }
+
+        @Override
+        public String toString()
+        {
+            return String.format(
+                "%s [invocations: %d, elements: %d, errors: %d, mean: %.0fns, p50: %dns, p99: %dns]",
+                m_name, m_invocations, m_elements, m_errors, this.mean(), this.quantile( 0.5 ), this.quantile( 0.99 )
+            );
+        }
+    }
+
+
+    /**
+     * JMX bean of all metrics
+     */
+    private static final class CMXBean implements IActionMetricsMXBean
+    {
+
+        @Override
+        public boolean isEnabled()
+        {
+            return s_enabled;
+        }
+
+        @Override
+        public void setEnabled( final boolean p_enabled )
+        {
+            s_enabled = p_enabled;
+        }
+
+        @Override
+        public Map<String, Long> getInvocations()
+        {
+            return values( CSnapshot::invocations );
+        }
+
+        @Override
+        public Map<String, Long> getElements()
+        {
+            return values( CSnapshot::elements );
+        }
+
+        @Override
+        public Map<String, Long> getErrors()
+        {
+            return values( CSnapshot::errors );
+        }
+
+        @Override
+        public Map<String, Double> getMeanLatency()
+        {
+            return values( CSnapshot::mean );
+        }
+
+        @Override
+        public Map<String, Long> getP99Latency()
+        {
+            return values( i -> i.quantile( 0.99 ) );
+        }
+
+        @Override
+        public long quantile( final String p_name, final double p_quantile )
+        {
+            final CActionMetrics l_metrics = METRICS.get( p_name );
+            return l_metrics == null ? 0 : l_metrics.snapshot().quantile( p_quantile );
+        }
+
+        @Override
+        public void reset()
+        {
+            resetall();
+        }
+
+        /**
+         * maps the snapshots of all actions
+         *
+         * @param p_value value function
+         * @return map with action name and value
+         * @tparam T value type
+         */
+        private static <T> Map<String, T> values( @Nonnull final Function<CSnapshot, T> p_value )
+        {
+            return snapshots().values().stream().collect( Collectors.toMap( CSnapshot::name, p_value ) );
+        }
+    }
+
+}
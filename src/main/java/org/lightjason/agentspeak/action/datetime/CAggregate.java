@@ -0,0 +1,225 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * aggregates date-time objects to the earliest
+ * and latest date-time and the span between them.
+ * The optional first argument is the unit of the span
+ * (seconds, milliseconds, nanoseconds, default milliseconds),
+ * all other arguments are zoned or compact date-time
+ * objects or epoch milliseconds, the arguments are
+ * walked once on epoch values, on equal instants the
+ * first date-time object is returned, the action
+ * returns nothing if there are no date-time objects
+ *
+ * {@code [Min|Max|Span] = .datetime/aggregate( DateTime1, DateTime2, DateTime3 );}
+ * {@code [Min|Max|Span] = .datetime/aggregate( "seconds", DateTimeList );}
+ */
+public final class CAggregate extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 5946417207283155203L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CAggregate.class, "datetime" );
+    /**
+     * nano-seconds of a second
+     */
+    private static final int NANOSECONDSPERSECOND = 1000000000;
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final EEpochUnit l_option = !l_arguments.isEmpty() && CCommon.isssignableto( l_arguments.get( 0 ), String.class )
+                                    ? EEpochUnit.of( l_arguments.get( 0 ).raw() )
+                                    : null;
+        if ( l_option == null && !l_arguments.isEmpty() && CCommon.isssignableto( l_arguments.get( 0 ), String.class ) )
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( CAggregate.class, "unknownunit", l_arguments.get( 0 ).<String>raw() )
+            );
+
+        final List<ITerm> l_elements = l_arguments.subList( l_option == null ? 0 : 1, l_arguments.size() );
+        if ( l_elements.isEmpty() )
+            return Stream.empty();
+
+        final CExtremes l_extremes = CDateTimeCommon.range( l_elements.size(), p_parallel )
+                                                    .collect( CExtremes::new, ( i, j ) -> i.add( j, l_elements.get( j ).raw() ), CExtremes::merge );
+
+        p_return.add( l_elements.get( l_extremes.m_minimumindex ) );
+        p_return.add( l_elements.get( l_extremes.m_maximumindex ) );
+
+        try
+        {
+            p_return.add( CRawTerm.of( l_extremes.span( l_option == null ? EEpochUnit.MILLISECONDS : l_option ) ) );
+        }
+        catch ( final ArithmeticException l_exception )
+        {
+            throw new CExecutionIllegealArgumentException( p_context, l_exception );
+        }
+
+        return Stream.empty();
+    }
+
+    /**
+     * mutable accumulator of the earliest and latest
+     * epoch value and the index of its date-time object
+     */
+    private static final class CExtremes
+    {
+        /**
+         * index of the earliest date-time object
+         */
+        private int m_minimumindex = -1;
+        /**
+         * epoch second of the earliest date-time object
+         */
+        private long m_minimumsecond;
+        /**
+         * nano-of-second of the earliest date-time object
+         */
+        private int m_minimumnano;
+        /**
+         * index of the latest date-time object
+         */
+        private int m_maximumindex = -1;
+        /**
+         * epoch second of the latest date-time object
+         */
+        private long m_maximumsecond;
+        /**
+         * nano-of-second of the latest date-time object
+         */
+        private int m_maximumnano;
+
+        /**
+         * adds a date-time object
+         *
+         * @param p_index index of the date-time object
+         * @param p_datetime date-time object
+         */
+        void add( final int p_index, @Nonnull final Object p_datetime )
+        {
+            final long l_second = CDateTimeCommon.epochsecond( p_datetime );
+            final int l_nano = CDateTimeCommon.nano( p_datetime );
+            this.add( p_index, l_second, l_nano, p_index, l_second, l_nano );
+        }
+
+        /**
+         * merges an accumulator of later indices
+         *
+         * @param p_extremes accumulator
+         */
+        void merge( @Nonnull final CExtremes p_extremes )
+        {
+            if ( p_extremes.m_minimumindex >= 0 )
+                this.add( p_extremes.m_minimumindex, p_extremes.m_minimumsecond, p_extremes.m_minimumnano,
+                          p_extremes.m_maximumindex, p_extremes.m_maximumsecond, p_extremes.m_maximumnano );
+        }
+
+        /**
+         * returns the span between the earliest and latest date-time object
+         *
+         * @param p_unit unit
+         * @return span
+         * @throws ArithmeticException on overflow
+         */
+        long span( @Nonnull final EEpochUnit p_unit )
+        {
+            final long l_seconds = Math.subtractExact( m_maximumsecond, m_minimumsecond );
+            final int l_nanos = m_maximumnano - m_minimumnano;
+            return l_nanos < 0
+                   ? p_unit.value( l_seconds - 1, l_nanos + NANOSECONDSPERSECOND )
+                   : p_unit.value( l_seconds, l_nanos );
+        }
+
+        /**
+         * adds the extremes of later indices, so
+         * on equal values the first index is kept
+         *
+         * @param p_minimumindex minimum index
+         * @param p_minimumsecond minimum epoch second
+         * @param p_minimumnano minimum nano-of-second
+         * @param p_maximumindex maximum index
+         * @param p_maximumsecond maximum epoch second
+         * @param p_maximumnano maximum nano-of-second
+         */
+        private void add( final int p_minimumindex, final long p_minimumsecond, final int p_minimumnano,
+                          final int p_maximumindex, final long p_maximumsecond, final int p_maximumnano )
+        {
+            if ( m_minimumindex < 0 || CDateTimeCommon.compare( p_minimumsecond, p_minimumnano, m_minimumsecond, m_minimumnano ) < 0 )
+            {
+                m_minimumindex = p_minimumindex;
+                m_minimumsecond = p_minimumsecond;
+                m_minimumnano = p_minimumnano;
+            }
+
+            if ( m_maximumindex < 0 || CDateTimeCommon.compare( p_maximumsecond, p_maximumnano, m_maximumsecond, m_maximumnano ) > 0 )
+            {
+                m_maximumindex = p_maximumindex;
+                m_maximumsecond = p_maximumsecond;
+                m_maximumnano = p_maximumnano;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.UncheckedIOException;
+import java.time.DateTimeException;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * adds business days to date-time objects.
+ * The first argument is a business calendar or
+ * the name of a calendar file, the second argument
+ * is the number of business days, which can be negative,
+ * all other arguments are zoned or compact date-time objects
+ * or epoch milliseconds, the local date is moved to the n-th
+ * working day after (or before) the date and the local time
+ * is kept, each result has the type of its input
+ *
+ * {@code [O1|O2] = .datetime/applybusinessdays( "holidays.txt", 5, DateTime1, DateTime2 );}
+ */
+public final class CApplyBusinessDays extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 1468929318757104561L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CApplyBusinessDays.class, "datetime" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+
+        try
+        {
+            final CBusinessCalendar l_calendar = CBusinessCalendar.calendar( l_arguments.get( 0 ).raw() );
+            final long l_value = l_arguments.get( 1 ).<Number>raw().longValue();
+
+            CDateTimeCommon.stream( l_arguments.subList( 2, l_arguments.size() ), p_parallel )
+                           .map( i -> apply( l_calendar, i.raw(), l_value ) )
+                           .map( CRawTerm::of )
+                           .forEachOrdered( p_return::add );
+        }
+        catch ( final DateTimeException | ArithmeticException | UncheckedIOException l_exception )
+        {
+            throw new CExecutionIllegealArgumentException( p_context, l_exception );
+        }
+
+        return Stream.empty();
+    }
+
+    /**
+     * adds business days to a date-time object
+     *
+     * @param p_calendar calendar
+     * @param p_datetime date-time object
+     * @param p_value number of business days
+     * @return date-time object with the type of the input
+     */
+    @Nonnull
+    private static Object apply( @Nonnull final CBusinessCalendar p_calendar, @Nonnull final Object p_datetime, final long p_value )
+    {
+        final ZonedDateTime l_datetime = CDateTimeCommon.datetime( p_datetime );
+        final ZonedDateTime l_result = l_datetime.with( p_calendar.plus( l_datetime.toLocalDate(), p_value ) );
+
+        if ( p_datetime instanceof Number )
+            return EEpochUnit.MILLISECONDS.value( l_result );
+
+        return p_datetime instanceof CCompactDateTime ? CCompactDateTime.of( l_result ) : l_result;
+    }
+
+}
@@ -28,7 +28,6 @@ import org.lightjason.agentspeak.common.IPath;
 
 import javax.annotation.Nonnull;
 import java.time.ZonedDateTime;
-import java.util.stream.Stream;
 
 
 /**
@@ -62,16 +61,16 @@ public final class CApplyMonths extends IPlusMinus
 
     @Nonnull
     @Override
-    protected Stream<?> applyminus( @Nonnull final Stream<ZonedDateTime> p_datetime, final long p_value )
+    protected ZonedDateTime applyminus( @Nonnull final ZonedDateTime p_datetime, final long p_value )
     {
-        return p_datetime.map( i -> i.minusMonths( p_value ) );
+        return p_datetime.minusMonths( p_value );
     }
 
     @Nonnull
     @Override
-    protected Stream<?> applyplus( @Nonnull final Stream<ZonedDateTime> p_datetime, final long p_value )
+    protected ZonedDateTime applyplus( @Nonnull final ZonedDateTime p_datetime, final long p_value )
     {
-        return p_datetime.map( i -> i.plusMonths( p_value ) );
+        return p_datetime.plusMonths( p_value );
     }
 
 }
@@ -28,7 +28,6 @@ import org.lightjason.agentspeak.common.IPath;
 
 import javax.annotation.Nonnull;
 import java.time.ZonedDateTime;
-import java.util.stream.Stream;
 
 
 /**
@@ -62,16 +61,22 @@ public final class CApplyNanoSeconds extends IPlusMinus
 
     @Nonnull
     @Override
-    protected Stream<?> applyminus( @Nonnull final Stream<ZonedDateTime> p_datetime, final long p_value )
+    protected ZonedDateTime applyminus( @Nonnull final ZonedDateTime p_datetime, final long p_value )
     {
-        return p_datetime.map( i -> i.minusNanos( p_value ) );
+        return p_datetime.minusNanos( p_value );
     }
 
     @Nonnull
     @Override
-    protected Stream<?> applyplus( @Nonnull final Stream<ZonedDateTime> p_datetime, final long p_value )
+    protected ZonedDateTime applyplus( @Nonnull final ZonedDateTime p_datetime, final long p_value )
     {
-        return p_datetime.map( i -> i.plusNanos( p_value ) );
+        return p_datetime.plusNanos( p_value );
+    }
+
+    @Override
+    protected long nanoseconds()
+    {
+        return 1;
     }
 
 }
@@ -28,7 +28,6 @@ import org.lightjason.agentspeak.common.IPath;
 
 import javax.annotation.Nonnull;
 import java.time.ZonedDateTime;
-import java.util.stream.Stream;
 
 
 /**
@@ -52,6 +51,10 @@ public final class CApplySeconds extends IPlusMinus
      * action name
      */
     private static final IPath NAME = namebyclass( CApplySeconds.class, "datetime" );
+    /**
+     * nano-seconds of a second
+     */
+    private static final long NANOSECONDS = 1000000000L;
 
     @Nonnull
     @Override
@@ -62,16 +65,22 @@ public final class CApplySeconds extends IPlusMinus
 
     @Nonnull
     @Override
-    protected Stream<?> applyminus( @Nonnull final Stream<ZonedDateTime> p_datetime, final long p_value )
+    protected ZonedDateTime applyminus( @Nonnull final ZonedDateTime p_datetime, final long p_value )
     {
-        return p_datetime.map( i -> i.minusSeconds( p_value ) );
+        return p_datetime.minusSeconds( p_value );
     }
 
     @Nonnull
     @Override
-    protected Stream<?> applyplus( @Nonnull final Stream<ZonedDateTime> p_datetime, final long p_value )
+    protected ZonedDateTime applyplus( @Nonnull final ZonedDateTime p_datetime, final long p_value )
+    {
+        return p_datetime.plusSeconds( p_value );
+    }
+
+    @Override
+    protected long nanoseconds()
     {
-        return p_datetime.map( i -> i.plusSeconds( p_value ) );
+        return NANOSECONDS;
     }
 
 }
@@ -0,0 +1,230 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * counts date-time objects within fixed time windows.
+ * The first argument is the window size, the second the
+ * window unit (milliseconds, seconds, minutes, hours, days,
+ * weeks), the optional third argument is the alignment zone
+ * (empty or "current" for the system-default zone, which is
+ * also the default), all other arguments are zoned or compact
+ * date-time objects or epoch milliseconds, windows are aligned
+ * to the local time of the zone (weeks start on monday), the
+ * action returns pairs of the window start and the number of
+ * date-time objects within the window ordered by the start,
+ * the counting is done on epoch values within a primitive map,
+ * the offsets are read from the transition table of the zone,
+ * the window size must be a positive integer
+ *
+ * @note windows are aligned to the local time, so on a daylight
+ * saving fall-back the repeated local hour is mapped twice onto
+ * the same windows and windows shorter than the overlap merge two
+ * real intervals, e.g. 02:30+02:00 and 02:30+01:00 on the 30th
+ * october 2016 in Europe/Berlin are counted in one 15 minutes window
+ *
+ * {@code [Start1|Count1|Start2|Count2] = .datetime/bucket( 15, "minutes", DateTimeList );}
+ * {@code L = .datetime/bucket( 1, "days", "Europe/Berlin", DateTimeList );}
+ */
+public final class CBucket extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 1836206925735287003L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CBucket.class, "datetime" );
+    /**
+     * milliseconds of a second
+     */
+    private static final long MILLISECONDSPERSECOND = 1000;
+    /**
+     * milliseconds of a day
+     */
+    private static final long MILLISECONDSPERDAY = 86400000L;
+    /**
+     * nano-seconds of a millisecond
+     */
+    private static final int NANOSECONDSPERMILLISECOND = 1000000;
+    /**
+     * shift of the week windows, the epoch day is a thursday
+     */
+    private static final long WEEKSHIFT = 4 * MILLISECONDSPERDAY;
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final String l_unit = l_arguments.get( 1 ).<String>raw().trim().toLowerCase( Locale.ROOT );
+        final boolean l_zone = l_arguments.size() > 2 && CCommon.isssignableto( l_arguments.get( 2 ), String.class );
+        final List<ITerm> l_elements = l_arguments.subList( l_zone ? 3 : 2, l_arguments.size() );
+
+        try
+        {
+            final Number l_size = l_arguments.get( 0 ).raw();
+            final long l_window = Math.multiplyExact( l_size.longValue(), unit( p_context, l_unit ) );
+            final long l_shift = l_unit.startsWith( "week" ) ? WEEKSHIFT : 0;
+            if ( l_window <= 0 || l_size.doubleValue() != l_size.longValue() )
+                throw new CExecutionIllegealArgumentException(
+                    p_context,
+                    org.lightjason.agentspeak.common.CCommon.languagestring( CBucket.class, "windowsize", l_arguments.get( 0 ).<Number>raw() )
+                );
+
+            final ZoneId l_alignment = l_zone ? CZones.of( l_arguments.get( 2 ).raw() ) : CZones.systemdefault();
+            final CZoneTransitions l_transitions = CZoneTransitions.of( l_alignment );
+
+            final CLongCounter l_counter = CDateTimeCommon.range( l_elements.size(), p_parallel )
+                                                          .collect(
+                                                              CLongCounter::new,
+                                                              ( i, j ) -> i.increment(
+                                                                  bucket( l_elements.get( j ).raw(), l_transitions, l_window, l_shift )
+                                                              ),
+                                                              CLongCounter::merge
+                                                          );
+
+            for ( final long i : l_counter.keys() )
+            {
+                p_return.add( CRawTerm.of( ZonedDateTime.of(
+                    LocalDateTime.ofEpochSecond(
+                        Math.floorDiv( i, MILLISECONDSPERSECOND ),
+                        (int) Math.floorMod( i, MILLISECONDSPERSECOND ) * NANOSECONDSPERMILLISECOND,
+                        ZoneOffset.UTC
+                    ),
+                    l_alignment
+                ) ) );
+                p_return.add( CRawTerm.of( l_counter.get( i ) ) );
+            }
+        }
+        catch ( final DateTimeException | ArithmeticException l_exception )
+        {
+            throw new CExecutionIllegealArgumentException( p_context, l_exception );
+        }
+
+        return Stream.empty();
+    }
+
+    /**
+     * returns the local epoch millisecond of the window start
+     *
+     * @param p_datetime zoned or compact date-time or epoch milliseconds
+     * @param p_transitions transition table of the alignment zone
+     * @param p_window window size in milliseconds
+     * @param p_shift window shift in milliseconds
+     * @return local epoch millisecond
+     */
+    private static long bucket( @Nonnull final Object p_datetime, @Nonnull final CZoneTransitions p_transitions, final long p_window,
+                                final long p_shift )
+    {
+        final long l_second = CDateTimeCommon.epochsecond( p_datetime );
+        final long l_local = ( l_second + p_transitions.offset( l_second ).getTotalSeconds() ) * MILLISECONDSPERSECOND
+                             + CDateTimeCommon.nano( p_datetime ) / NANOSECONDSPERMILLISECOND;
+
+        return Math.floorDiv( l_local - p_shift, p_window ) * p_window + p_shift;
+    }
+
+    /**
+     * returns the milliseconds of a window unit
+     *
+     * @param p_context execution context
+     * @param p_unit unit name
+     * @return milliseconds
+     */
+    private static long unit( @Nonnull final IContext p_context, @Nonnull final String p_unit )
+    {
+        switch ( p_unit )
+        {
+            case "millisecond":
+            case "milliseconds":
+                return 1;
+
+            case "second":
+            case "seconds":
+                return MILLISECONDSPERSECOND;
+
+            case "minute":
+            case "minutes":
+                return 60 * MILLISECONDSPERSECOND;
+
+            case "hour":
+            case "hours":
+                return 3600 * MILLISECONDSPERSECOND;
+
+            case "day":
+            case "days":
+                return MILLISECONDSPERDAY;
+
+            case "week":
+            case "weeks":
+                return 7 * MILLISECONDSPERDAY;
+
+            default:
+                throw new CExecutionIllegealArgumentException(
+                    p_context,
+                    org.lightjason.agentspeak.common.CCommon.languagestring( CBucket.class, "unknownunit", p_unit )
+                );
+        }
+    }
+
+}
@@ -23,9 +23,9 @@
 
 package org.lightjason.agentspeak.action.datetime;
 
-import com.codepoetics.protonpack.StreamUtils;
 import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
@@ -34,9 +34,9 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
-import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
@@ -45,9 +45,12 @@ import java.util.stream.Stream;
  * The actions creates form an eight-tuple a date-time
  * object and never fails, the seventh argument within
  * the tuple is the time-zone, which can be set to empty
- * or "current", so the system-default zone is used
+ * or "current", so the system-default zone is used,
+ * if the first argument is "compact", compact date-time
+ * objects are returned
  *
  * {@code O1 = .datetime/build( Year, Month, Day, Hour, Minutes, Second, NanoSeconds, "current" );}
+ * {@code O1 = .datetime/build( "compact", Year, Month, Day, Hour, Minutes, Second, NanoSeconds, "current" );}
  */
 public final class CBuild extends IBaseAction
 {
@@ -80,14 +83,28 @@ public final class CBuild extends IBaseAction
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        StreamUtils.windowed(
-            CCommon.flatten( p_argument ),
-            8,
-            8
-        )
-                   .map( CBuild::apply )
-                   .map( CRawTerm::of )
-                   .forEach( p_return::add );
+        final CActionEvent l_event = CActionEvent.start();
+        final int l_size = p_return.size();
+        final List<ITerm> l_flatten = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final boolean l_compact = CDateTimeCommon.compact( l_flatten );
+        final List<ITerm> l_arguments = l_compact ? l_flatten.subList( 1, l_flatten.size() ) : l_flatten;
+
+        try
+        {
+            CDateTimeCommon.range( l_arguments.size() / 8, p_parallel )
+                           .mapToObj( i -> CBuild.apply( l_arguments.subList( 8 * i, 8 * i + 8 ) ) )
+                           .map( i -> l_compact ? CCompactDateTime.of( i ) : i )
+                           .map( CRawTerm::of )
+                           .forEachOrdered( p_return::add );
+        }
+        catch ( final ArithmeticException l_exception )
+        {
+            throw new CExecutionIllegealArgumentException( p_context, l_exception );
+        }
+        finally
+        {
+            l_event.finish( this, l_flatten.size(), p_return.size() - l_size, p_parallel );
+        }
 
         return Stream.empty();
     }
@@ -115,9 +132,7 @@ public final class CBuild extends IBaseAction
             p_elements.get( 6 ).<Number>raw().intValue(),
 
             // zone id if empty or current, system-default will be used
-            ( "current".equalsIgnoreCase( p_elements.get( 7 ).<String>raw().trim() ) ) || ( p_elements.get( 7 ).<String>raw().trim().isEmpty() )
-            ? ZoneId.systemDefault()
-            : ZoneId.of( p_elements.get( 7 ).<String>raw().trim() )
+            CZones.of( p_elements.get( 7 ).<String>raw() )
         );
     }
 
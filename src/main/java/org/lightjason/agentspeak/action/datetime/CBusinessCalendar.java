@@ -0,0 +1,439 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+
+/**
+ * immutable business-day calendar.
+ * The working days of a year range are stored as
+ * bitset over epoch days with the cumulative number
+ * of working days of each 64-day word, so counting
+ * business days runs in O(1) and adding business
+ * days in O(log n)
+ *
+ * @note a calendar file contains one holiday (yyyy-mm-dd)
+ * per line, optional "weekend = saturday, sunday" and
+ * a mandatory "years = 2000-2050" line and "#" comments,
+ * malformed lines fail with the line number, a file without
+ * years line fails, so the range does not depend on the
+ * holidays or the load time
+ */
+public final class CBusinessCalendar
+{
+    /**
+     * default number of cached calendar files
+     */
+    private static final int CACHESIZE = 64;
+    /**
+     * cache of the calendar files
+     */
+    private static final CCache<String, CBusinessCalendar> CALENDARS = new CCache<>( "businesscalendar", CACHESIZE );
+    /**
+     * default weekend
+     */
+    private static final Set<DayOfWeek> WEEKEND = EnumSet.of( DayOfWeek.SATURDAY, DayOfWeek.SUNDAY );
+    /**
+     * pattern of a year range, a single year is a range of one year
+     */
+    private static final Pattern YEARS = Pattern.compile( "(\\d{1,9})(?:\\s*-\\s*(\\d{1,9}))?" );
+    /**
+     * first year
+     */
+    private final int m_firstyear;
+    /**
+     * last year
+     */
+    private final int m_lastyear;
+    /**
+     * epoch day of the first day
+     */
+    private final long m_firstday;
+    /**
+     * number of days
+     */
+    private final int m_days;
+    /**
+     * working day bits
+     */
+    private final long[] m_words;
+    /**
+     * number of working days before each word
+     */
+    private final int[] m_ranks;
+
+    /**
+     * ctor
+     *
+     * @param p_firstyear first year
+     * @param p_lastyear last year
+     * @param p_weekend weekend days
+     * @param p_holidays holidays
+     */
+    private CBusinessCalendar( final int p_firstyear, final int p_lastyear, @Nonnull final Set<DayOfWeek> p_weekend,
+                               @Nonnull final Collection<LocalDate> p_holidays )
+    {
+        m_firstyear = p_firstyear;
+        m_lastyear = p_lastyear;
+        m_firstday = LocalDate.of( p_firstyear, 1, 1 ).toEpochDay();
+        m_days = Math.toIntExact( LocalDate.of( p_lastyear + 1, 1, 1 ).toEpochDay() - m_firstday );
+        m_words = new long[( m_days + 63 ) >>> 6];
+        m_ranks = new int[m_words.length + 1];
+
+        for ( int i = 0; i < m_days; i++ )
+            if ( !p_weekend.contains( DayOfWeek.of( (int) Math.floorMod( m_firstday + i + 3, 7L ) + 1 ) ) )
+                m_words[i >>> 6] |= 1L << i;
+
+        p_holidays.stream()
+                  .mapToLong( i -> i.toEpochDay() - m_firstday )
+                  .filter( i -> i >= 0 && i < m_days )
+                  .forEach( i -> m_words[(int) i >>> 6] &= ~( 1L << i ) );
+
+        for ( int i = 0; i < m_words.length; i++ )
+            m_ranks[i + 1] = m_ranks[i] + Long.bitCount( m_words[i] );
+    }
+
+    /**
+     * creates a calendar
+     *
+     * @param p_firstyear first year
+     * @param p_lastyear last year
+     * @param p_weekend weekend days
+     * @param p_holidays holidays
+     * @return calendar
+     */
+    @Nonnull
+    public static CBusinessCalendar of( final int p_firstyear, final int p_lastyear, @Nonnull final Set<DayOfWeek> p_weekend,
+                                        @Nonnull final Collection<LocalDate> p_holidays )
+    {
+        if ( p_lastyear < p_firstyear )
+            throw new IllegalArgumentException( "year range " + p_firstyear + "-" + p_lastyear + " is empty" );
+        return new CBusinessCalendar( p_firstyear, p_lastyear, p_weekend, p_holidays );
+    }
+
+    /**
+     * creates a calendar with saturday and sunday as weekend
+     *
+     * @param p_firstyear first year
+     * @param p_lastyear last year
+     * @param p_holidays holidays
+     * @return calendar
+     */
+    @Nonnull
+    public static CBusinessCalendar of( final int p_firstyear, final int p_lastyear, @Nonnull final Collection<LocalDate> p_holidays )
+    {
+        return of( p_firstyear, p_lastyear, WEEKEND, p_holidays );
+    }
+
+    /**
+     * reads a calendar file
+     *
+     * @param p_file file
+     * @return calendar
+     * @throws IOException on read errors or malformed lines
+     */
+    @Nonnull
+    public static CBusinessCalendar from( @Nonnull final Path p_file ) throws IOException
+    {
+        Set<DayOfWeek> l_weekend = WEEKEND;
+        int[] l_years = null;
+        final List<LocalDate> l_holidays = new ArrayList<>();
+        final List<String> l_lines = Files.readAllLines( p_file, StandardCharsets.UTF_8 );
+
+        for ( int i = 0; i < l_lines.size(); i++ )
+        {
+            final String l_line = l_lines.get( i ).replaceFirst( "#.*", "" ).trim().toLowerCase( Locale.ROOT );
+            if ( l_line.isEmpty() )
+                continue;
+
+            final String[] l_entry = l_line.split( "\\s*=\\s*", 2 );
+            try
+            {
+                if ( l_entry.length == 1 )
+                    l_holidays.add( LocalDate.parse( l_line ) );
+                else if ( "weekend".equals( l_entry[0] ) )
+                    l_weekend = weekend( l_entry[1] );
+                else if ( "years".equals( l_entry[0] ) )
+                    l_years = years( l_entry[1] );
+                else
+                    throw new IllegalArgumentException( "unknown entry [" + l_entry[0] + "]" );
+            }
+            catch ( final IllegalArgumentException | DateTimeException l_exception )
+            {
+                throw new IOException( "malformed line " + ( i + 1 ) + " [" + l_lines.get( i ).trim() + "] in " + p_file, l_exception );
+            }
+        }
+
+        if ( l_years == null )
+            throw new IOException( "malformed calendar, missing years line in " + p_file );
+
+        try
+        {
+            return of( l_years[0], l_years[1], l_weekend, l_holidays );
+        }
+        catch ( final IllegalArgumentException | DateTimeException l_exception )
+        {
+            throw new IOException( "invalid calendar in " + p_file, l_exception );
+        }
+    }
+
+    /**
+     * returns a cached calendar of a file
+     *
+     * @param p_file file name
+     * @return calendar
+     * @throws UncheckedIOException on read errors
+     */
+    @Nonnull
+    public static CBusinessCalendar load( @Nonnull final String p_file )
+    {
+        return CALENDARS.get( p_file, i ->
+        {
+            try
+            {
+                return from( Paths.get( i ) );
+            }
+            catch ( final IOException l_exception )
+            {
+                throw new UncheckedIOException( l_exception );
+            }
+        } );
+    }
+
+    /**
+     * returns the calendar of an argument
+     *
+     * @param p_calendar calendar object or calendar file name
+     * @return calendar
+     * @throws UncheckedIOException on read errors
+     */
+    @Nonnull
+    static CBusinessCalendar calendar( @Nonnull final Object p_calendar )
+    {
+        return p_calendar instanceof CBusinessCalendar ? (CBusinessCalendar) p_calendar : load( p_calendar.toString() );
+    }
+
+    /**
+     * returns the calendar file cache
+     *
+     * @return cache
+     */
+    @Nonnull
+    public static CCache<String, CBusinessCalendar> cache()
+    {
+        return CALENDARS;
+    }
+
+    /**
+     * returns the first year
+     *
+     * @return year
+     */
+    public int firstyear()
+    {
+        return m_firstyear;
+    }
+
+    /**
+     * returns the last year
+     *
+     * @return year
+     */
+    public int lastyear()
+    {
+        return m_lastyear;
+    }
+
+    /**
+     * checks if a date is a working day
+     *
+     * @param p_date date
+     * @return working day
+     * @throws DateTimeException if the date is out of the calendar range
+     */
+    public boolean working( @Nonnull final LocalDate p_date )
+    {
+        final int l_day = this.index( p_date.toEpochDay() );
+        return l_day < m_days && ( m_words[l_day >>> 6] & 1L << l_day ) != 0;
+    }
+
+    /**
+     * counts the working days between two dates
+     *
+     * @param p_start start date (inclusive)
+     * @param p_end end date (exclusive)
+     * @return number of working days, negative if the end is before the start
+     * @throws DateTimeException if a date is out of the calendar range
+     */
+    public long between( @Nonnull final LocalDate p_start, @Nonnull final LocalDate p_end )
+    {
+        return (long) this.rank( this.index( p_end.toEpochDay() ) ) - this.rank( this.index( p_start.toEpochDay() ) );
+    }
+
+    /**
+     * adds working days to a date, a positive value
+     * returns the n-th working day after the date, a
+     * negative value the n-th working day before the date
+     *
+     * @param p_date date
+     * @param p_value number of working days
+     * @return date
+     * @throws DateTimeException if a date is out of the calendar range
+     */
+    @Nonnull
+    public LocalDate plus( @Nonnull final LocalDate p_date, final long p_value )
+    {
+        if ( p_value == 0 )
+            return p_date;
+
+        final int l_day = this.index( p_date.toEpochDay() );
+        return LocalDate.ofEpochDay(
+            m_firstday + this.select(
+                p_value > 0
+                ? this.rank( Math.min( l_day + 1, m_days ) ) + p_value - 1
+                : this.rank( l_day ) + p_value
+            )
+        );
+    }
+
+    @Override
+    public String toString()
+    {
+        return "business calendar " + m_firstyear + "-" + m_lastyear + " (" + m_ranks[m_words.length] + " working days)";
+    }
+
+    /**
+     * returns the index of an epoch day
+     *
+     * @param p_epochday epoch day
+     * @return index, the day after the last year is allowed
+     * @throws DateTimeException if the date is out of the calendar range
+     */
+    private int index( final long p_epochday )
+    {
+        final long l_index = p_epochday - m_firstday;
+        if ( l_index < 0 || l_index > m_days )
+            throw new DateTimeException( LocalDate.ofEpochDay( p_epochday ) + " out of calendar range " + m_firstyear + "-" + m_lastyear );
+        return (int) l_index;
+    }
+
+    /**
+     * returns the number of working days before an index
+     *
+     * @param p_index index
+     * @return number of working days
+     */
+    private int rank( @Nonnegative final int p_index )
+    {
+        final int l_word = p_index >>> 6;
+        return l_word == m_words.length
+               ? m_ranks[l_word]
+               : m_ranks[l_word] + Long.bitCount( m_words[l_word] & ( ( 1L << p_index ) - 1 ) );
+    }
+
+    /**
+     * returns the index of the n-th working day
+     *
+     * @param p_rank rank of the working day
+     * @return index
+     * @throws DateTimeException if the rank is out of the calendar range
+     */
+    private int select( final long p_rank )
+    {
+        if ( p_rank < 0 || p_rank >= m_ranks[m_words.length] )
+            throw new DateTimeException( "working day out of calendar range " + m_firstyear + "-" + m_lastyear );
+
+        int l_low = 0;
+        int l_high = m_words.length - 1;
+        while ( l_low < l_high )
+        {
+            final int l_middle = ( l_low + l_high + 1 ) >>> 1;
+            if ( m_ranks[l_middle] <= p_rank )
+                l_low = l_middle;
+            else
+                l_high = l_middle - 1;
+        }
+
+        long l_word = m_words[l_low];
+        for ( long i = p_rank - m_ranks[l_low]; i > 0; i-- )
+            l_word &= l_word - 1;
+        return ( l_low << 6 ) + Long.numberOfTrailingZeros( l_word );
+    }
+
+    /**
+     * parses a year range
+     *
+     * @param p_years year range "first-last" or a single year
+     * @return first and last year
+     * @throws IllegalArgumentException on a malformed range
+     */
+    @Nonnull
+    private static int[] years( @Nonnull final String p_years )
+    {
+        final Matcher l_matcher = YEARS.matcher( p_years );
+        if ( !l_matcher.matches() )
+            throw new IllegalArgumentException( "year range [" + p_years + "] must be first-last or a single year" );
+
+        final int l_first = Integer.parseInt( l_matcher.group( 1 ) );
+        return new int[]{l_first, l_matcher.group( 2 ) == null ? l_first : Integer.parseInt( l_matcher.group( 2 ) )};
+    }
+
+    /**
+     * parses weekend days
+     *
+     * @param p_days comma-separated day names
+     * @return weekend days
+     * @throws IllegalArgumentException on an unknown day name
+     */
+    @Nonnull
+    private static Set<DayOfWeek> weekend( @Nonnull final String p_days )
+    {
+        return Arrays.stream( p_days.split( "\\s*,\\s*" ) )
+                     .filter( i -> !i.isEmpty() )
+                     .map( i -> DayOfWeek.valueOf( i.toUpperCase( Locale.ROOT ) ) )
+                     .collect( Collectors.toCollection( () -> EnumSet.noneOf( DayOfWeek.class ) ) );
+    }
+
+}
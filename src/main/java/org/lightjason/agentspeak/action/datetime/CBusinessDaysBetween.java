@@ -0,0 +1,108 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.UncheckedIOException;
+import java.time.DateTimeException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * counts business days between date-time objects.
+ * The first argument is a business calendar or the
+ * name of a calendar file, all other arguments are pairs
+ * of zoned or compact date-time objects or epoch milliseconds,
+ * the working days from the local start date (inclusive)
+ * to the local end date (exclusive) are counted, the result
+ * is negative if the end is before the start
+ *
+ * {@code [D1|D2] = .datetime/businessdaysbetween( "holidays.txt", Start1, End1, Start2, End2 );}
+ */
+public final class CBusinessDaysBetween extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -3203453838911262466L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CBusinessDaysBetween.class, "datetime" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 3;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+
+        try
+        {
+            final CBusinessCalendar l_calendar = CBusinessCalendar.calendar( l_arguments.get( 0 ).raw() );
+
+            CDateTimeCommon.range( ( l_arguments.size() - 1 ) / 2, p_parallel )
+                           .mapToObj( i -> l_calendar.between(
+                               CDateTimeCommon.datetime( l_arguments.get( 2 * i + 1 ).raw() ).toLocalDate(),
+                               CDateTimeCommon.datetime( l_arguments.get( 2 * i + 2 ).raw() ).toLocalDate()
+                           ) )
+                           .map( CRawTerm::of )
+                           .forEachOrdered( p_return::add );
+        }
+        catch ( final DateTimeException | ArithmeticException | UncheckedIOException l_exception )
+        {
+            throw new CExecutionIllegealArgumentException( p_context, l_exception );
+        }
+
+        return Stream.empty();
+    }
+
+}
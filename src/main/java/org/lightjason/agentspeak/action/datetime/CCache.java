@@ -0,0 +1,344 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+
+/**
+ * bounded concurrent cache.
+ * The cache stores at most capacity values, lookups are lock-free,
+ * eviction is done with the second-chance (clock) strategy, so
+ * recently read values survive an eviction round like on a LRU
+ * cache, each eviction gives the values at most one second chance,
+ * inserts, evictions and clearing are serialized by a lock, which
+ * is not used on hits, hit, miss and eviction counters are readable
+ *
+ * @tparam K key type
+ * @tparam V value type
+ */
+public final class CCache<K, V>
+{
+    /**
+     * cache name
+     */
+    private final String m_name;
+    /**
+     * values
+     */
+    private final Map<K, CEntry<V>> m_values = new ConcurrentHashMap<>();
+    /**
+     * insert order of the keys, guarded by itself
+     */
+    private final Queue<K> m_order = new ArrayDeque<>();
+    /**
+     * number of hits
+     */
+    private final LongAdder m_hits = new LongAdder();
+    /**
+     * number of misses
+     */
+    private final LongAdder m_misses = new LongAdder();
+    /**
+     * number of evictions
+     */
+    private final LongAdder m_evictions = new LongAdder();
+    /**
+     * maximum number of values
+     */
+    private volatile int m_capacity;
+
+    /**
+     * ctor
+     *
+     * @param p_capacity maximum number of values, zero disables caching
+     */
+    public CCache( @Nonnegative final int p_capacity )
+    {
+        this( "cache", p_capacity );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_name cache name
+     * @param p_capacity maximum number of values, zero disables caching
+     */
+    public CCache( @Nonnull final String p_name, @Nonnegative final int p_capacity )
+    {
+        if ( p_capacity < 0 )
+            throw new IllegalArgumentException( "capacity must not be negative" );
+
+        m_name = p_name;
+        m_capacity = p_capacity;
+    }
+
+    /**
+     * returns a cached value or creates it
+     *
+     * @param p_key key
+     * @param p_loader value loader, exceptions are passed and nothing will be cached
+     * @return value
+     */
+    @Nonnull
+    public V get( @Nonnull final K p_key, @Nonnull final Function<? super K, ? extends V> p_loader )
+    {
+        final CEntry<V> l_entry = m_values.get( p_key );
+        if ( l_entry != null )
+        {
+            m_hits.increment();
+            return l_entry.get();
+        }
+
+        m_misses.increment();
+        final CCacheEvent l_event = CCacheEvent.start();
+        final V l_value = p_loader.apply( p_key );
+        boolean l_stored = false;
+        int l_evictions = 0;
+        if ( m_capacity > 0 )
+            synchronized ( m_order )
+            {
+                l_stored = m_values.putIfAbsent( p_key, new CEntry<>( l_value ) ) == null;
+                if ( l_stored )
+                {
+                    m_order.add( p_key );
+                    l_evictions = this.evict();
+                }
+            }
+
+        l_event.finish( this, p_key, l_stored, l_evictions );
+        return l_value;
+    }
+
+    /**
+     * returns the cache name
+     *
+     * @return name
+     */
+    @Nonnull
+    public String name()
+    {
+        return m_name;
+    }
+
+    /**
+     * returns the capacity
+     *
+     * @return maximum number of values
+     */
+    @Nonnegative
+    public int capacity()
+    {
+        return m_capacity;
+    }
+
+    /**
+     * sets the capacity
+     *
+     * @param p_capacity maximum number of values, zero disables caching
+     * @return self reference
+     */
+    @Nonnull
+    public CCache<K, V> capacity( @Nonnegative final int p_capacity )
+    {
+        if ( p_capacity < 0 )
+            throw new IllegalArgumentException( "capacity must not be negative" );
+
+        synchronized ( m_order )
+        {
+            m_capacity = p_capacity;
+            this.evict();
+        }
+        return this;
+    }
+
+    /**
+     * number of cached values
+     *
+     * @return size
+     */
+    @Nonnegative
+    public int size()
+    {
+        return m_values.size();
+    }
+
+    /**
+     * number of hits
+     *
+     * @return hits
+     */
+    @Nonnegative
+    public long hits()
+    {
+        return m_hits.sum();
+    }
+
+    /**
+     * number of misses
+     *
+     * @return misses
+     */
+    @Nonnegative
+    public long misses()
+    {
+        return m_misses.sum();
+    }
+
+    /**
+     * number of evictions
+     *
+     * @return evictions
+     */
+    @Nonnegative
+    public long evictions()
+    {
+        return m_evictions.sum();
+    }
+
+    /**
+     * removes all values and resets the counters
+     *
+     * @return self reference
+     */
+    @Nonnull
+    public CCache<K, V> clear()
+    {
+        synchronized ( m_order )
+        {
+            m_values.clear();
+            m_order.clear();
+        }
+        m_hits.reset();
+        m_misses.reset();
+        m_evictions.reset();
+        return this;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "size [" + this.size() + " / " + m_capacity + "], hits [" + this.hits() + "], misses [" + this.misses()
+               + "], evictions [" + this.evictions() + "]";
+    }
+
+    /**
+     * evicts values until the capacity is reached,
+     * a value which was read since the last round
+     * gets a second chance, second chances are given
+     * for at most one pass over all keys, so constant
+     * hits cannot keep the loop running, the caller
+     * must hold the lock of the order queue
+     *
+     * @return number of evicted values
+     */
+    private int evict()
+    {
+        int l_evictions = 0;
+        int l_chances = m_order.size();
+        while ( m_values.size() > m_capacity )
+        {
+            final K l_key = m_order.poll();
+            if ( l_key == null )
+                break;
+
+            final CEntry<V> l_entry = m_values.get( l_key );
+            if ( l_entry == null )
+                continue;
+
+            if ( l_chances-- > 0 && l_entry.secondchance() )
+                m_order.add( l_key );
+            else if ( m_values.remove( l_key, l_entry ) )
+            {
+                m_evictions.increment();
+                l_evictions++;
+            }
+        }
+
+        return l_evictions;
+    }
+
+
+    /**
+     * cache entry with reference flag
+     *
+     * @tparam T value type
+     */
+    private static final class CEntry<T>
+    {
+        /**
+         * value
+         */
+        private final T m_value;
+        /**
+         * value was read since the last eviction round
+         */
+        private volatile boolean m_referenced;
+
+        /**
+         * ctor
+         *
+         * @param p_value value
+         */
+        CEntry( @Nonnull final T p_value )
+        {
+            m_value = p_value;
+        }
+
+        /**
+         * returns the value and marks the entry
+         *
+         * @return value
+         */
+        @Nonnull
+        T get()
+        {
+            if ( !m_referenced )
+                m_referenced = true;
+            return m_value;
+        }
+
+        /**
+         * checks and clears the reference flag
+         *
+         * @return entry was referenced
+         */
+        boolean secondchance()
+        {
+            if ( !m_referenced )
+                return false;
+
+            m_referenced = false;
+            return true;
+        }
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+
+/**
+ * flight recorder event of a cache miss,
+ * the duration is the load time of the value,
+ * the event is disabled by default and must
+ * be enabled on the recording
+ */
+@Name( CCacheEvent.NAME )
+@Label( "Date-Time Cache Miss" )
+@Description( "loading of a value into a date-time cache" )
+@Category( {"LightJason", "Date-Time"} )
+@Enabled( false )
+@StackTrace( false )
+final class CCacheEvent extends Event
+{
+    /**
+     * event name
+     */
+    static final String NAME = "org.lightjason.agentspeak.action.datetime.CacheMiss";
+
+    /**
+     * cache name
+     */
+    @Name( "cache" )
+    @Label( "Cache" )
+    private String m_cache;
+    /**
+     * key
+     */
+    @Name( "key" )
+    @Label( "Key" )
+    private String m_key;
+    /**
+     * value was stored
+     */
+    @Name( "stored" )
+    @Label( "Stored" )
+    private boolean m_stored;
+    /**
+     * number of evictions caused by the miss
+     */
+    @Name( "evictions" )
+    @Label( "Evictions" )
+    private int m_evictions;
+    /**
+     * number of cached values
+     */
+    @Name( "size" )
+    @Label( "Size" )
+    private int m_size;
+
+    /**
+     * creates and starts the event
+     *
+     * @return event
+     */
+    @Nonnull
+    static CCacheEvent start()
+    {
+        final CCacheEvent l_event = new CCacheEvent();
+        l_event.begin();
+        return l_event;
+    }
+
+    /**
+     * ends the event and commits it, if
+     * the event is enabled on the recording
+     *
+     * @param p_cache cache
+     * @param p_key key
+     * @param p_stored value was stored
+     * @param p_evictions number of evictions
+     */
+    void finish( @Nonnull final CCache<?, ?> p_cache, @Nonnull final Object p_key, final boolean p_stored, @Nonnegative final int p_evictions )
+    {
+        this.end();
+        if ( !this.shouldCommit() )
+            return;
+
+        m_cache = p_cache.name();
+        m_key = p_key.toString();
+        m_stored = p_stored;
+        m_evictions = p_evictions;
+        m_size = p_cache.size();
+        this.commit();
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+
+/**
+ * shared coarse clock, the current date-time is read
+ * once per tick and the same instance is returned
+ * until the tick is expired. With a zero resolution
+ * the clock is only refreshed by calling tick, e.g.
+ * once per agent cycle
+ */
+public final class CCoarseClock implements IClock
+{
+    /**
+     * underlying clock
+     */
+    private final Clock m_clock;
+    /**
+     * resolution in nano-seconds, zero for manual ticks
+     */
+    private final long m_resolution;
+    /**
+     * current state
+     */
+    private volatile CState m_state;
+
+    /**
+     * ctor
+     *
+     * @param p_resolution resolution, zero for manual ticks
+     */
+    public CCoarseClock( @Nonnull final Duration p_resolution )
+    {
+        this( Clock.system( CZones.systemdefault() ), p_resolution );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_clock underlying clock
+     * @param p_resolution resolution, zero for manual ticks
+     */
+    public CCoarseClock( @Nonnull final Clock p_clock, @Nonnull final Duration p_resolution )
+    {
+        if ( p_resolution.isNegative() )
+            throw new IllegalArgumentException( p_resolution.toString() );
+
+        m_clock = p_clock;
+        m_resolution = p_resolution.toNanos();
+        m_state = new CState( System.nanoTime(), ZonedDateTime.now( m_clock ) );
+    }
+
+    @Nonnull
+    @Override
+    public ZonedDateTime now()
+    {
+        final CState l_state = m_state;
+        return m_resolution > 0 && System.nanoTime() - l_state.m_time >= m_resolution
+               ? this.tick()
+               : l_state.m_datetime;
+    }
+
+    /**
+     * refreshes the current date-time
+     *
+     * @return new current date-time
+     */
+    @Nonnull
+    public ZonedDateTime tick()
+    {
+        final CState l_state = new CState( System.nanoTime(), ZonedDateTime.now( m_clock ) );
+        m_state = l_state;
+        return l_state.m_datetime;
+    }
+
+    /**
+     * returns the resolution
+     *
+     * @return resolution, zero for manual ticks
+     */
+    @Nonnull
+    public Duration resolution()
+    {
+        return Duration.ofNanos( m_resolution );
+    }
+
+    /**
+     * immutable state of the clock
+     */
+    private static final class CState
+    {
+        /**
+         * monotonic time of the read
+         */
+        private final long m_time;
+        /**
+         * date-time of the read
+         */
+        private final ZonedDateTime m_datetime;
+
+        /**
+         * ctor
+         *
+         * @param p_time monotonic time
+         * @param p_datetime date-time
+         */
+        CState( final long p_time, @Nonnull final ZonedDateTime p_datetime )
+        {
+            m_time = p_time;
+            m_datetime = p_datetime;
+        }
+    }
+
+}
@@ -0,0 +1,245 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+
+/**
+ * compact date-time representation.
+ * The date-time is stored as epoch nano-seconds and an
+ * interned zone index, so an object needs a single long
+ * and int value instead of the object graph of a zoned
+ * date-time, the zoned date-time is created only if a
+ * calendar field is needed
+ *
+ * @note the epoch nano-seconds are limited to the years 1677 to 2262
+ */
+public final class CCompactDateTime implements Serializable, Comparable<CCompactDateTime>
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 5371269431185926113L;
+    /**
+     * nano-seconds of a second
+     */
+    private static final long NANOSECONDSPERSECOND = 1000000000L;
+    /**
+     * epoch nano-seconds
+     */
+    private final long m_epochnanoseconds;
+    /**
+     * zone index
+     */
+    private final int m_zone;
+
+    /**
+     * ctor
+     *
+     * @param p_epochnanoseconds epoch nano-seconds
+     * @param p_zone zone index
+     */
+    private CCompactDateTime( final long p_epochnanoseconds, final int p_zone )
+    {
+        m_epochnanoseconds = p_epochnanoseconds;
+        m_zone = p_zone;
+    }
+
+    /**
+     * creates a compact date-time of a zoned date-time
+     *
+     * @param p_datetime zoned date-time
+     * @return compact date-time
+     * @throws ArithmeticException if the date-time is out of the epoch nano-seconds range
+     */
+    @Nonnull
+    public static CCompactDateTime of( @Nonnull final ZonedDateTime p_datetime )
+    {
+        return new CCompactDateTime(
+            Math.addExact( Math.multiplyExact( p_datetime.toEpochSecond(), NANOSECONDSPERSECOND ), p_datetime.getNano() ),
+            CZones.index( p_datetime.getZone() )
+        );
+    }
+
+    /**
+     * creates a compact date-time of epoch nano-seconds
+     *
+     * @param p_epochnanoseconds epoch nano-seconds
+     * @param p_zone zone
+     * @return compact date-time
+     */
+    @Nonnull
+    public static CCompactDateTime of( final long p_epochnanoseconds, @Nonnull final ZoneId p_zone )
+    {
+        return new CCompactDateTime( p_epochnanoseconds, CZones.index( p_zone ) );
+    }
+
+    /**
+     * returns the epoch nano-seconds
+     *
+     * @return epoch nano-seconds
+     */
+    public long epochnanoseconds()
+    {
+        return m_epochnanoseconds;
+    }
+
+    /**
+     * returns the epoch seconds
+     *
+     * @return epoch seconds
+     */
+    public long epochsecond()
+    {
+        return Math.floorDiv( m_epochnanoseconds, NANOSECONDSPERSECOND );
+    }
+
+    /**
+     * returns the nano-seconds of the second
+     *
+     * @return nano-seconds
+     */
+    public int nano()
+    {
+        return (int) Math.floorMod( m_epochnanoseconds, NANOSECONDSPERSECOND );
+    }
+
+    /**
+     * returns the zone
+     *
+     * @return zone
+     */
+    @Nonnull
+    public ZoneId zone()
+    {
+        return CZones.zone( m_zone );
+    }
+
+    /**
+     * creates a compact date-time with other epoch nano-seconds and the same zone
+     *
+     * @param p_epochnanoseconds epoch nano-seconds
+     * @return compact date-time
+     */
+    @Nonnull
+    public CCompactDateTime withepochnanoseconds( final long p_epochnanoseconds )
+    {
+        return new CCompactDateTime( p_epochnanoseconds, m_zone );
+    }
+
+    /**
+     * creates the zoned date-time
+     *
+     * @return zoned date-time
+     */
+    @Nonnull
+    public ZonedDateTime datetime()
+    {
+        return ZonedDateTime.ofInstant( Instant.ofEpochSecond( this.epochsecond(), this.nano() ), this.zone() );
+    }
+
+    @Override
+    public int compareTo( @Nonnull final CCompactDateTime p_other )
+    {
+        return Long.compare( m_epochnanoseconds, p_other.m_epochnanoseconds );
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Long.hashCode( m_epochnanoseconds ) ^ m_zone;
+    }
+
+    @Override
+    public boolean equals( final Object p_object )
+    {
+        return p_object instanceof CCompactDateTime
+               && m_epochnanoseconds == ( (CCompactDateTime) p_object ).m_epochnanoseconds
+               && m_zone == ( (CCompactDateTime) p_object ).m_zone;
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.datetime().toString();
+    }
+
+    /**
+     * serializes the object with the zone-id instead of the jvm-local zone index
+     *
+     * @return serialization proxy
+     */
+    private Object writeReplace()
+    {
+        return new CProxy( m_epochnanoseconds, this.zone().getId() );
+    }
+
+
+    /**
+     * serialization proxy
+     */
+    private static final class CProxy implements Serializable
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = -2431617291565407062L;
+        /**
+         * epoch nano-seconds
+         */
+        private final long m_epochnanoseconds;
+        /**
+         * zone-id
+         */
+        private final String m_zone;
+
+        /**
+         * ctor
+         *
+         * @param p_epochnanoseconds epoch nano-seconds
+         * @param p_zone zone-id
+         */
+        CProxy( final long p_epochnanoseconds, @Nonnull final String p_zone )
+        {
+            m_epochnanoseconds = p_epochnanoseconds;
+            m_zone = p_zone;
+        }
+
+        /**
+         * creates the compact date-time
+         *
+         * @return compact date-time
+         */
+        private Object readResolve()
+        {
+            return CCompactDateTime.of( m_epochnanoseconds, CZones.of( m_zone ) );
+        }
+    }
+
+}
@@ -37,9 +37,12 @@ import java.util.List;
  * The action returns a date-time object based
  * on the string input arguments, the action
  * parses the string if the string is empty or
- * "now" the current date-time will returned
+ * "now" the current date-time will returned, if the
+ * first argument is "compact", compact date-time objects
+ * are returned
  *
  * {@code [O1|O2] = .datetime/create( "now", "2007-12-03T10:15:30+01:00[Europe/Paris]" );}
+ * {@code [O1|O2] = .datetime/create( "compact", "now", "2007-12-03T10:15:30+01:00[Europe/Paris]" );}
  */
 public final class CCreate extends IDateTime
 {
@@ -66,4 +69,11 @@ public final class CCreate extends IDateTime
         return true;
     }
 
+    @Override
+    protected boolean elements( @Nonnull final CCompactDateTime p_datetime, @Nonnull final List<ITerm> p_return )
+    {
+        p_return.add( CRawTerm.of( p_datetime ) );
+        return true;
+    }
+
 }
@@ -0,0 +1,383 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+
+/**
+ * compiled cron expression with the five fields
+ * minute, hour, day-of-month, month and day-of-week.
+ * Each field is stored as bitset, so the next fire time
+ * is found by jumping field by field to the next set bit
+ * without generating intermediate candidates, fields
+ * support "*", values, names (jan-dec, sun-sat), ranges,
+ * lists and steps, if day-of-month and day-of-week are both
+ * restricted a day matches either of them, the macros {@code @yearly},
+ * {@code @monthly}, {@code @weekly}, {@code @daily} and {@code @hourly}
+ * can be used, local times within a daylight-saving gap
+ * fire once at the end of the gap, local times within an
+ * overlap fire once at the earlier offset
+ */
+public final class CCronExpression
+{
+    /**
+     * default number of cached expressions
+     */
+    private static final int CACHESIZE = 256;
+    /**
+     * cache of the compiled expressions
+     */
+    private static final CCache<String, CCronExpression> CACHE = new CCache<>( "cronexpression", CACHESIZE );
+    /**
+     * number of years, which are searched for the next fire time
+     */
+    private static final int SEARCHYEARS = 10;
+    /**
+     * bits of every seventh day
+     */
+    private static final long WEEKLY = 0x8102040810204081L;
+    /**
+     * macros
+     */
+    private static final Map<String, String> MACROS = Map.of(
+        "@yearly", "0 0 1 1 *",
+        "@annually", "0 0 1 1 *",
+        "@monthly", "0 0 1 * *",
+        "@weekly", "0 0 * * 0",
+        "@daily", "0 0 * * *",
+        "@midnight", "0 0 * * *",
+        "@hourly", "0 * * * *"
+    );
+    /**
+     * month names
+     */
+    private static final List<String> MONTHS = List.of( "", "jan", "feb", "mar", "apr", "may", "jun", "jul", "aug", "sep", "oct", "nov", "dec" );
+    /**
+     * day-of-week names
+     */
+    private static final List<String> WEEKDAYS = List.of( "sun", "mon", "tue", "wed", "thu", "fri", "sat" );
+    /**
+     * expression
+     */
+    private final String m_expression;
+    /**
+     * minute bits
+     */
+    private final long m_minutes;
+    /**
+     * hour bits
+     */
+    private final long m_hours;
+    /**
+     * day-of-month bits
+     */
+    private final long m_days;
+    /**
+     * month bits
+     */
+    private final long m_months;
+    /**
+     * day-of-week bits, sunday is zero
+     */
+    private final long m_weekdays;
+    /**
+     * day-of-month and day-of-week are both restricted
+     */
+    private final boolean m_either;
+
+    /**
+     * ctor
+     *
+     * @param p_expression expression
+     * @throws IllegalArgumentException on syntax errors
+     */
+    private CCronExpression( @Nonnull final String p_expression )
+    {
+        m_expression = p_expression;
+
+        final String[] l_fields = MACROS.getOrDefault( p_expression.trim().toLowerCase( Locale.ROOT ), p_expression )
+                                        .trim().toLowerCase( Locale.ROOT ).split( "\\s+" );
+        if ( l_fields.length != 5 )
+            throw new IllegalArgumentException( "cron expression [" + p_expression + "] needs five fields" );
+
+        m_minutes = field( l_fields[0], 0, 59, List.of() );
+        m_hours = field( l_fields[1], 0, 23, List.of() );
+        m_days = field( l_fields[2], 1, 31, List.of() );
+        m_months = field( l_fields[3], 1, 12, MONTHS );
+
+        final long l_weekdays = field( l_fields[4], 0, 7, WEEKDAYS );
+        m_weekdays = ( l_weekdays | l_weekdays >>> 7 ) & 0x7f;
+        m_either = !l_fields[2].startsWith( "*" ) && !l_fields[4].startsWith( "*" );
+    }
+
+    /**
+     * returns a compiled expression, the
+     * expressions are cached
+     *
+     * @param p_expression expression
+     * @return compiled expression
+     * @throws IllegalArgumentException on syntax errors
+     */
+    @Nonnull
+    public static CCronExpression of( @Nonnull final String p_expression )
+    {
+        return CACHE.get( p_expression, CCronExpression::new );
+    }
+
+    /**
+     * returns the expression cache
+     *
+     * @return cache
+     */
+    @Nonnull
+    public static CCache<String, CCronExpression> cache()
+    {
+        return CACHE;
+    }
+
+    /**
+     * returns the next fire time
+     *
+     * @param p_after date-time, the fire time is strictly after
+     * @return next fire time within the zone of the date-time or null
+     * if there is no fire time within the next years
+     */
+    @Nullable
+    public ZonedDateTime next( @Nonnull final ZonedDateTime p_after )
+    {
+        final ZoneRules l_rules = p_after.getZone().getRules();
+        final LocalDateTime l_limit = p_after.toLocalDateTime().plusYears( SEARCHYEARS );
+        LocalDateTime l_local = p_after.toLocalDateTime().truncatedTo( ChronoUnit.MINUTES ).plusMinutes( 1 );
+
+        while ( l_local.isBefore( l_limit ) )
+        {
+            final int l_month = next( m_months, l_local.getMonthValue() );
+            if ( l_month != l_local.getMonthValue() )
+            {
+                l_local = l_month < 64
+                          ? LocalDate.of( l_local.getYear(), l_month, 1 ).atStartOfDay()
+                          : LocalDate.of( l_local.getYear() + 1, 1, 1 ).atStartOfDay();
+                continue;
+            }
+
+            final int l_day = this.day( l_local.toLocalDate() );
+            if ( l_day != l_local.getDayOfMonth() )
+            {
+                l_local = l_day < 64
+                          ? l_local.toLocalDate().withDayOfMonth( l_day ).atStartOfDay()
+                          : l_local.toLocalDate().withDayOfMonth( 1 ).plusMonths( 1 ).atStartOfDay();
+                continue;
+            }
+
+            final int l_hour = next( m_hours, l_local.getHour() );
+            if ( l_hour != l_local.getHour() )
+            {
+                l_local = l_hour < 64 ? l_local.withHour( l_hour ).withMinute( 0 ) : l_local.toLocalDate().plusDays( 1 ).atStartOfDay();
+                continue;
+            }
+
+            final int l_minute = next( m_minutes, l_local.getMinute() );
+            if ( l_minute >= 64 )
+            {
+                l_local = l_local.truncatedTo( ChronoUnit.HOURS ).plusHours( 1 );
+                continue;
+            }
+
+            l_local = l_local.withMinute( l_minute );
+            final ZonedDateTime l_result = resolve( l_local, p_after, l_rules );
+            if ( l_result.isAfter( p_after ) )
+                return l_result;
+
+            l_local = l_local.plusMinutes( 1 );
+        }
+
+        return null;
+    }
+
+    /**
+     * returns the next fire times
+     *
+     * @param p_after date-time, the first fire time is strictly after
+     * @param p_number number of fire times
+     * @return fire times, the list is shorter if there
+     * is no fire time within the next years
+     */
+    @Nonnull
+    public List<ZonedDateTime> next( @Nonnull final ZonedDateTime p_after, @Nonnegative final int p_number )
+    {
+        final List<ZonedDateTime> l_result = new ArrayList<>( p_number );
+        for ( ZonedDateTime l_next = p_after; l_result.size() < p_number; )
+        {
+            l_next = this.next( l_next );
+            if ( l_next == null )
+                break;
+            l_result.add( l_next );
+        }
+        return l_result;
+    }
+
+    @Override
+    public String toString()
+    {
+        return m_expression;
+    }
+
+    /**
+     * returns the next day of the month, which matches the day fields,
+     * the day-of-week bits are moved to day-of-month bits of the month
+     *
+     * @param p_date date
+     * @return next day-of-month greater or equal than the day of the date or 64
+     */
+    private int day( @Nonnull final LocalDate p_date )
+    {
+        final int l_first = weekday( p_date.withDayOfMonth( 1 ).getDayOfWeek() );
+        long l_weekdays = 0;
+        for ( long i = m_weekdays; i != 0; i &= i - 1 )
+            l_weekdays |= WEEKLY << ( 1 + Math.floorMod( Long.numberOfTrailingZeros( i ) - l_first, 7 ) );
+
+        final long l_days = ( m_either ? m_days | l_weekdays : m_days & l_weekdays ) & -1L >>> ( 63 - p_date.lengthOfMonth() );
+        return next( l_days, p_date.getDayOfMonth() );
+    }
+
+    /**
+     * resolves a local fire time within the zone
+     *
+     * @param p_local local date-time
+     * @param p_after reference date-time with the zone
+     * @param p_rules zone rules
+     * @return zoned fire time
+     */
+    @Nonnull
+    private static ZonedDateTime resolve( @Nonnull final LocalDateTime p_local, @Nonnull final ZonedDateTime p_after,
+                                          @Nonnull final ZoneRules p_rules )
+    {
+        if ( !p_rules.getValidOffsets( p_local ).isEmpty() )
+            return ZonedDateTime.ofLocal( p_local, p_after.getZone(), null );
+
+        final ZoneOffsetTransition l_transition = p_rules.getTransition( p_local );
+        return ZonedDateTime.ofInstant( l_transition.getInstant(), p_after.getZone() );
+    }
+
+    /**
+     * returns the next set bit
+     *
+     * @param p_bits bits
+     * @param p_value start value
+     * @return next set bit greater or equal than the start value or 64
+     */
+    private static int next( final long p_bits, final int p_value )
+    {
+        return Long.numberOfTrailingZeros( p_bits & -1L << p_value );
+    }
+
+    /**
+     * returns the cron index of a day-of-week
+     *
+     * @param p_weekday day-of-week
+     * @return index, sunday is zero
+     */
+    private static int weekday( @Nonnull final DayOfWeek p_weekday )
+    {
+        return p_weekday.getValue() % 7;
+    }
+
+    /**
+     * parses a field
+     *
+     * @param p_field field
+     * @param p_minimum minimal value
+     * @param p_maximum maximal value
+     * @param p_names value names, the index is the value
+     * @return bits
+     * @throws IllegalArgumentException on syntax errors
+     */
+    private static long field( @Nonnull final String p_field, final int p_minimum, final int p_maximum, @Nonnull final List<String> p_names )
+    {
+        long l_bits = 0;
+        for ( final String i : p_field.split( "," ) )
+        {
+            final String[] l_step = i.split( "/", 2 );
+            final String[] l_range = l_step[0].split( "-", 2 );
+            final boolean l_all = "*".equals( l_step[0] );
+
+            final int l_first = l_all ? p_minimum : value( l_range[0], p_minimum, p_maximum, p_names, p_field );
+            final int l_last = l_all || l_range.length == 1 && l_step.length == 2
+                               ? p_maximum
+                               : l_range.length == 2 ? value( l_range[1], p_minimum, p_maximum, p_names, p_field ) : l_first;
+            final int l_increment = l_step.length == 2 ? value( l_step[1], 1, p_maximum, List.of(), p_field ) : 1;
+            if ( l_last < l_first )
+                throw new IllegalArgumentException( "cron field [" + p_field + "] has an empty range" );
+
+            for ( int j = l_first; j <= l_last; j += l_increment )
+                l_bits |= 1L << j;
+        }
+        return l_bits;
+    }
+
+    /**
+     * parses a field value
+     *
+     * @param p_value value
+     * @param p_minimum minimal value
+     * @param p_maximum maximal value
+     * @param p_names value names, the index is the value
+     * @param p_field field
+     * @return value
+     * @throws IllegalArgumentException on syntax errors
+     */
+    private static int value( @Nonnull final String p_value, final int p_minimum, final int p_maximum, @Nonnull final List<String> p_names,
+                              @Nonnull final String p_field )
+    {
+        final int l_index = p_names.indexOf( p_value );
+        final int l_value;
+        try
+        {
+            l_value = l_index >= 0 && !p_value.isEmpty() ? l_index : Integer.parseInt( p_value );
+        }
+        catch ( final NumberFormatException l_exception )
+        {
+            throw new IllegalArgumentException( "cron field [" + p_field + "] has an invalid value [" + p_value + "]", l_exception );
+        }
+
+        if ( l_value < p_minimum || l_value > p_maximum )
+            throw new IllegalArgumentException( "cron field [" + p_field + "] value [" + p_value + "] out of range" );
+        return l_value;
+    }
+
+}
@@ -24,7 +24,6 @@
 package org.lightjason.agentspeak.action.datetime;
 
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 
 import javax.annotation.Nonnull;
@@ -62,11 +61,11 @@ public final class CDate extends IDateTime
     @Override
     protected boolean elements( @Nonnull final ZonedDateTime p_datetime, @Nonnull final List<ITerm> p_return )
     {
-        p_return.add( CRawTerm.of( p_datetime.getYear() ) );
-        p_return.add( CRawTerm.of( p_datetime.getMonthValue() ) );
-        p_return.add( CRawTerm.of( p_datetime.getDayOfMonth() ) );
-        p_return.add( CRawTerm.of( p_datetime.getDayOfWeek().toString() ) );
-        p_return.add( CRawTerm.of( p_datetime.getDayOfYear() ) );
+        p_return.add( CFieldTerms.year( p_datetime.getYear() ) );
+        p_return.add( CFieldTerms.field( p_datetime.getMonthValue() ) );
+        p_return.add( CFieldTerms.field( p_datetime.getDayOfMonth() ) );
+        p_return.add( CFieldTerms.weekday( p_datetime.getDayOfWeek() ) );
+        p_return.add( CFieldTerms.field( p_datetime.getDayOfYear() ) );
         return true;
     }
 
@@ -0,0 +1,221 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ITerm;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * common structures of the date-time actions
+ */
+final class CDateTimeCommon
+{
+    /**
+     * minimal number of elements for a parallel execution,
+     * smaller inputs are processed sequential, because the
+     * fork-join overhead is larger than the gain
+     */
+    static final int PARALLELTHRESHOLD = 512;
+    /**
+     * milliseconds of a second
+     */
+    private static final long MILLISECONDSPERSECOND = 1000;
+    /**
+     * nano-seconds of a millisecond
+     */
+    private static final int NANOSECONDSPERMILLISECOND = 1000000;
+
+    /**
+     * ctor
+     */
+    private CDateTimeCommon()
+    {
+    }
+
+    /**
+     * creates a stream of a list, which is parallel
+     * if the parallel flag is set and the list is large
+     *
+     * @param p_list list
+     * @param p_parallel parallel flag of the action execution
+     * @tparam T element type
+     * @return stream
+     */
+    @Nonnull
+    static <T> Stream<T> stream( @Nonnull final List<T> p_list, final boolean p_parallel )
+    {
+        return parallel( p_list.size(), p_parallel ) ? p_list.parallelStream() : p_list.stream();
+    }
+
+    /**
+     * creates an index stream, which is parallel
+     * if the parallel flag is set and the range is large
+     *
+     * @param p_size number of indices
+     * @param p_parallel parallel flag of the action execution
+     * @return index stream
+     */
+    @Nonnull
+    static IntStream range( @Nonnegative final int p_size, final boolean p_parallel )
+    {
+        return parallel( p_size, p_parallel ) ? IntStream.range( 0, p_size ).parallel() : IntStream.range( 0, p_size );
+    }
+
+    /**
+     * checks if an execution should be parallel
+     *
+     * @param p_size number of elements
+     * @param p_parallel parallel flag of the action execution
+     * @return parallel execution
+     */
+    static boolean parallel( @Nonnegative final int p_size, final boolean p_parallel )
+    {
+        return p_parallel && p_size >= PARALLELTHRESHOLD;
+    }
+
+    /**
+     * checks if the first argument is the "compact" flag
+     *
+     * @param p_arguments flatten arguments
+     * @return compact flag exists
+     */
+    static boolean compact( @Nonnull final List<ITerm> p_arguments )
+    {
+        return !p_arguments.isEmpty()
+               && CCommon.isssignableto( p_arguments.get( 0 ), String.class )
+               && "compact".equalsIgnoreCase( p_arguments.get( 0 ).<String>raw().trim() );
+    }
+
+    /**
+     * returns the zoned date-time of a date-time object,
+     * numbers are epoch milliseconds within the system-default zone
+     *
+     * @param p_datetime zoned or compact date-time or epoch milliseconds
+     * @return zoned date-time
+     */
+    @Nonnull
+    static ZonedDateTime datetime( @Nonnull final Object p_datetime )
+    {
+        if ( p_datetime instanceof CCompactDateTime )
+            return ( (CCompactDateTime) p_datetime ).datetime();
+
+        return p_datetime instanceof Number
+               ? EEpochUnit.MILLISECONDS.datetime( ( (Number) p_datetime ).longValue(), CZones.systemdefault() )
+               : (ZonedDateTime) p_datetime;
+    }
+
+    /**
+     * returns the epoch second of a date-time object
+     *
+     * @param p_datetime zoned or compact date-time or epoch milliseconds
+     * @return epoch second
+     */
+    static long epochsecond( @Nonnull final Object p_datetime )
+    {
+        if ( p_datetime instanceof CCompactDateTime )
+            return ( (CCompactDateTime) p_datetime ).epochsecond();
+
+        return p_datetime instanceof Number
+               ? Math.floorDiv( ( (Number) p_datetime ).longValue(), MILLISECONDSPERSECOND )
+               : ( (ZonedDateTime) p_datetime ).toEpochSecond();
+    }
+
+    /**
+     * returns the nano-of-second of a date-time object
+     *
+     * @param p_datetime zoned or compact date-time or epoch milliseconds
+     * @return nano-of-second
+     */
+    static int nano( @Nonnull final Object p_datetime )
+    {
+        if ( p_datetime instanceof CCompactDateTime )
+            return ( (CCompactDateTime) p_datetime ).nano();
+
+        return p_datetime instanceof Number
+               ? (int) Math.floorMod( ( (Number) p_datetime ).longValue(), MILLISECONDSPERSECOND ) * NANOSECONDSPERMILLISECOND
+               : ( (ZonedDateTime) p_datetime ).getNano();
+    }
+
+    /**
+     * returns the epoch nano-seconds of a date-time object
+     *
+     * @param p_datetime zoned or compact date-time or epoch milliseconds
+     * @return epoch nano-seconds
+     * @throws ArithmeticException if the date-time is out of the epoch nano-seconds range
+     */
+    static long epochnanoseconds( @Nonnull final Object p_datetime )
+    {
+        return p_datetime instanceof CCompactDateTime
+               ? ( (CCompactDateTime) p_datetime ).epochnanoseconds()
+               : EEpochUnit.NANOSECONDS.value( p_datetime );
+    }
+
+    /**
+     * compares two epoch values
+     *
+     * @param p_firstsecond first epoch second
+     * @param p_firstnano first nano-of-second
+     * @param p_secondsecond second epoch second
+     * @param p_secondnano second nano-of-second
+     * @return comparison result
+     */
+    static int compare( final long p_firstsecond, final int p_firstnano, final long p_secondsecond, final int p_secondnano )
+    {
+        final int l_second = Long.compare( p_firstsecond, p_secondsecond );
+        return l_second == 0 ? Integer.compare( p_firstnano, p_secondnano ) : l_second;
+    }
+
+    /**
+     * checks if an object is a date-time object
+     *
+     * @param p_datetime object
+     * @return flag that the object is a zoned or compact date-time or epoch milliseconds
+     */
+    static boolean isdatetime( @Nullable final Object p_datetime )
+    {
+        return p_datetime instanceof ZonedDateTime || p_datetime instanceof CCompactDateTime || p_datetime instanceof Number;
+    }
+
+    /**
+     * compares two date-time objects on the time-line
+     *
+     * @param p_first zoned or compact date-time or epoch milliseconds
+     * @param p_second zoned or compact date-time or epoch milliseconds
+     * @return comparison result
+     */
+    static int compare( @Nonnull final Object p_first, @Nonnull final Object p_second )
+    {
+        return compare( epochsecond( p_first ), nano( p_first ), epochsecond( p_second ), nano( p_second ) );
+    }
+
+}
@@ -0,0 +1,204 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.time.ZonedDateTime;
+import java.util.Comparator;
+
+
+/**
+ * immutable half-open date-time interval [start, end).
+ * The epoch nano-seconds of start and end are stored
+ * beside the date-time objects, so comparisons and
+ * index queries are done on primitive values
+ *
+ * @note the epoch nano-seconds are limited to the years 1677 to 2262
+ */
+public final class CDateTimeInterval implements Serializable, Comparable<CDateTimeInterval>
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 8315566034453812733L;
+    /**
+     * order by start and end
+     */
+    private static final Comparator<CDateTimeInterval> ORDER = Comparator.comparingLong( CDateTimeInterval::startepoch )
+                                                                         .thenComparingLong( CDateTimeInterval::endepoch );
+    /**
+     * start
+     */
+    private final ZonedDateTime m_start;
+    /**
+     * end (exclusive)
+     */
+    private final ZonedDateTime m_end;
+    /**
+     * epoch nano-seconds of the start
+     */
+    private final long m_startepoch;
+    /**
+     * epoch nano-seconds of the end
+     */
+    private final long m_endepoch;
+
+    /**
+     * ctor
+     *
+     * @param p_start start
+     * @param p_end end
+     */
+    private CDateTimeInterval( @Nonnull final ZonedDateTime p_start, @Nonnull final ZonedDateTime p_end )
+    {
+        m_start = p_start;
+        m_end = p_end;
+        m_startepoch = CDateTimeCommon.epochnanoseconds( p_start );
+        m_endepoch = CDateTimeCommon.epochnanoseconds( p_end );
+
+        if ( m_endepoch < m_startepoch )
+            throw new IllegalArgumentException( p_end + " < " + p_start );
+    }
+
+    /**
+     * creates an interval
+     *
+     * @param p_start start
+     * @param p_end end (exclusive)
+     * @return interval
+     * @throws IllegalArgumentException if the end is before the start
+     * @throws ArithmeticException if a date-time is out of the epoch nano-seconds range
+     */
+    @Nonnull
+    public static CDateTimeInterval of( @Nonnull final ZonedDateTime p_start, @Nonnull final ZonedDateTime p_end )
+    {
+        return new CDateTimeInterval( p_start, p_end );
+    }
+
+    /**
+     * returns the start
+     *
+     * @return start
+     */
+    @Nonnull
+    public ZonedDateTime start()
+    {
+        return m_start;
+    }
+
+    /**
+     * returns the end
+     *
+     * @return end (exclusive)
+     */
+    @Nonnull
+    public ZonedDateTime end()
+    {
+        return m_end;
+    }
+
+    /**
+     * returns the epoch nano-seconds of the start
+     *
+     * @return epoch nano-seconds
+     */
+    public long startepoch()
+    {
+        return m_startepoch;
+    }
+
+    /**
+     * returns the epoch nano-seconds of the end
+     *
+     * @return epoch nano-seconds
+     */
+    public long endepoch()
+    {
+        return m_endepoch;
+    }
+
+    /**
+     * checks if the interval overlaps another interval
+     *
+     * @note an empty interval overlaps an interval, which
+     * contains its instant after the start
+     *
+     * @param p_interval interval
+     * @return overlapping
+     */
+    public boolean overlaps( @Nonnull final CDateTimeInterval p_interval )
+    {
+        return m_startepoch < p_interval.m_endepoch && p_interval.m_startepoch < m_endepoch;
+    }
+
+    /**
+     * checks if the interval contains another interval
+     *
+     * @param p_interval interval
+     * @return containment
+     */
+    public boolean contains( @Nonnull final CDateTimeInterval p_interval )
+    {
+        return m_startepoch <= p_interval.m_startepoch && p_interval.m_endepoch <= m_endepoch;
+    }
+
+    /**
+     * checks if the interval contains an instant
+     *
+     * @param p_epochnanoseconds epoch nano-seconds of the instant
+     * @return containment
+     */
+    public boolean contains( final long p_epochnanoseconds )
+    {
+        return m_startepoch <= p_epochnanoseconds && p_epochnanoseconds < m_endepoch;
+    }
+
+    @Override
+    public int compareTo( @Nonnull final CDateTimeInterval p_other )
+    {
+        return ORDER.compare( this, p_other );
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return 31 * m_start.hashCode() + m_end.hashCode();
+    }
+
+    @Override
+    public boolean equals( final Object p_object )
+    {
+        return p_object instanceof CDateTimeInterval
+               && m_start.equals( ( (CDateTimeInterval) p_object ).m_start )
+               && m_end.equals( ( (CDateTimeInterval) p_object ).m_end );
+    }
+
+    @Override
+    public String toString()
+    {
+        return "[" + m_start + ", " + m_end + ")";
+    }
+
+}
@@ -23,13 +23,9 @@
 
 package org.lightjason.agentspeak.action.datetime;
 
-import org.joda.time.Days;
-import org.joda.time.Instant;
 import org.lightjason.agentspeak.common.IPath;
 
 import javax.annotation.Nonnull;
-import java.util.List;
-import java.util.stream.Stream;
 
 
 
@@ -43,6 +39,7 @@ import java.util.stream.Stream;
  * date-time item
  *
  * {@code [D1|D2] = .datetime/daysbetween( DateTime1, DateTime2, DateTime3, DateTime4 );}
+ * {@code [D1|D2] = .datetime/daysbetween( "integer", DateTime1, DateTime2, DateTime3, DateTime4 );}
  */
 public final class CDaysBetween extends IBetween
 {
@@ -62,14 +59,10 @@ public final class CDaysBetween extends IBetween
         return NAME;
     }
 
-    @Nonnull
     @Override
-    protected Stream<?> apply( @Nonnull final Stream<List<Instant>> p_datetime )
+    protected long apply( final long p_start, final long p_end )
     {
-        return p_datetime
-            .map( i -> Days.daysBetween( i.get( 0 ), i.get( 1 ) ) )
-            .mapToDouble( Days::getDays )
-            .boxed();
+        return ( p_end - p_start ) / MILLISECONDSPERDAY;
     }
 
 }
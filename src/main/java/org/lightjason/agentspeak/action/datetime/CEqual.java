@@ -0,0 +1,64 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.common.IPath;
+
+import javax.annotation.Nonnull;
+
+
+/**
+ * checks if the first date-time object is the same instant as the second.
+ * The arguments are pairs of date-time objects,
+ * or "pivot", the pivot and date-time objects, which
+ * are compared with the pivot
+ *
+ * {@code [B1|B2] = .datetime/equal( DateTime1, DateTime2, DateTime3, DateTime4 );}
+ * {@code [B1|B2] = .datetime/equal( "pivot", Pivot, DateTime1, DateTime2 );}
+ */
+public final class CEqual extends ICompare
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 1582904462791025737L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CEqual.class, "datetime" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Override
+    protected boolean apply( final int p_compare )
+    {
+        return p_compare == 0;
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+
+import javax.annotation.Nonnull;
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+
+/**
+ * pre-built immutable terms of the bounded date-time
+ * fields, so the extraction of hours, minutes, seconds,
+ * months, days, day-of-year and weekday names does not
+ * create new terms, years of a common range are also cached
+ */
+final class CFieldTerms
+{
+    /**
+     * largest cached field value (day-of-year)
+     */
+    private static final int MAXIMUMFIELD = 366;
+    /**
+     * first cached year
+     */
+    private static final int MINIMUMYEAR = 1900;
+    /**
+     * last cached year
+     */
+    private static final int MAXIMUMYEAR = 2199;
+    /**
+     * field terms
+     */
+    private static final ITerm[] FIELDS = IntStream.rangeClosed( 0, MAXIMUMFIELD ).mapToObj( CRawTerm::of ).toArray( ITerm[]::new );
+    /**
+     * year terms
+     */
+    private static final ITerm[] YEARS = IntStream.rangeClosed( MINIMUMYEAR, MAXIMUMYEAR ).mapToObj( CRawTerm::of ).toArray( ITerm[]::new );
+    /**
+     * weekday name terms
+     */
+    private static final ITerm[] WEEKDAYS = Arrays.stream( DayOfWeek.values() ).map( i -> CRawTerm.of( i.toString() ) ).toArray( ITerm[]::new );
+
+    /**
+     * ctor
+     */
+    private CFieldTerms()
+    {
+    }
+
+    /**
+     * returns the term of a field value
+     *
+     * @param p_value field value
+     * @return cached term within the field range, otherwise a new term
+     */
+    @Nonnull
+    static ITerm field( final int p_value )
+    {
+        return p_value >= 0 && p_value <= MAXIMUMFIELD ? FIELDS[p_value] : CRawTerm.of( p_value );
+    }
+
+    /**
+     * returns the term of a year
+     *
+     * @param p_year year
+     * @return cached term within the year range, otherwise a new term
+     */
+    @Nonnull
+    static ITerm year( final int p_year )
+    {
+        return p_year >= MINIMUMYEAR && p_year <= MAXIMUMYEAR ? YEARS[p_year - MINIMUMYEAR] : CRawTerm.of( p_year );
+    }
+
+    /**
+     * returns the term of a weekday name
+     *
+     * @param p_weekday weekday
+     * @return cached term
+     */
+    @Nonnull
+    static ITerm weekday( @Nonnull final DayOfWeek p_weekday )
+    {
+        return WEEKDAYS[p_weekday.ordinal()];
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.time.DateTimeException;
+import java.time.format.DateTimeFormatter;
+import java.util.IllformedLocaleException;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * formats date-time objects to strings.
+ * The first argument is the pattern of the formatter,
+ * the optional second argument is a locale language tag,
+ * all other arguments are date-time objects, for each
+ * date-time object the formatted string is returned, the
+ * compiled formatters are shared and cached by pattern and
+ * locale, the action fails on an invalid pattern or a
+ * malformed language tag
+ *
+ * {@code [S1|S2] = .datetime/format( "dd.MM.yyyy HH:mm", DateTime1, DateTime2 );}
+ * {@code S = .datetime/format( "EEEE, d. MMMM yyyy", "de-DE", DateTime );}
+ */
+public final class CFormat extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2713478806424566379L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CFormat.class, "datetime" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final boolean l_locale = l_arguments.size() > 1 && CCommon.isssignableto( l_arguments.get( 1 ), String.class );
+
+        try
+        {
+            final DateTimeFormatter l_formatter = l_locale
+                                                  ? CFormatters.of(
+                                                      l_arguments.get( 0 ).raw(),
+                                                      locale( p_context, l_arguments.get( 1 ).<String>raw().trim() )
+                                                  )
+                                                  : CFormatters.of( l_arguments.get( 0 ).raw() );
+
+            CDateTimeCommon.stream( l_arguments.subList( l_locale ? 2 : 1, l_arguments.size() ), p_parallel )
+                           .map( i -> l_formatter.format( CDateTimeCommon.datetime( i.raw() ) ) )
+                           .map( CRawTerm::of )
+                           .forEachOrdered( p_return::add );
+        }
+        catch ( final IllegalArgumentException | DateTimeException l_exception )
+        {
+            throw new CExecutionIllegealArgumentException( p_context, l_exception );
+        }
+
+        return Stream.empty();
+    }
+
+    /**
+     * parses a locale language tag, malformed tags
+     * fail instead of falling back to the root locale
+     *
+     * @param p_context execution context
+     * @param p_tag language tag
+     * @return locale
+     */
+    @Nonnull
+    private static Locale locale( @Nonnull final IContext p_context, @Nonnull final String p_tag )
+    {
+        try
+        {
+            return new Locale.Builder().setLanguageTag( p_tag ).build();
+        }
+        catch ( final IllformedLocaleException l_exception )
+        {
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( CFormat.class, "malformedlocale", p_tag )
+            );
+        }
+    }
+
+}
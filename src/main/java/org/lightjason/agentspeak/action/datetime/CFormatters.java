@@ -0,0 +1,146 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import javax.annotation.Nonnull;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Objects;
+
+
+/**
+ * shared and thread-safe pool of compiled date-time formatters.
+ * A formatter is compiled once per pattern and locale and
+ * stored within a bounded cache, the formatters are immutable,
+ * so they can be used concurrently for formatting and parsing
+ */
+public final class CFormatters
+{
+    /**
+     * default number of cached formatters
+     */
+    private static final int CACHESIZE = 256;
+    /**
+     * cache of formatters
+     */
+    private static final CCache<CKey, DateTimeFormatter> CACHE = new CCache<>( "formatter", CACHESIZE );
+
+    /**
+     * ctor
+     */
+    private CFormatters()
+    {
+    }
+
+    /**
+     * returns the formatter of a pattern with the default format locale
+     *
+     * @param p_pattern pattern
+     * @return formatter
+     * @throws IllegalArgumentException on an invalid pattern
+     */
+    @Nonnull
+    public static DateTimeFormatter of( @Nonnull final String p_pattern )
+    {
+        return of( p_pattern, Locale.getDefault( Locale.Category.FORMAT ) );
+    }
+
+    /**
+     * returns the formatter of a pattern and locale
+     *
+     * @param p_pattern pattern
+     * @param p_locale locale
+     * @return formatter
+     * @throws IllegalArgumentException on an invalid pattern
+     */
+    @Nonnull
+    public static DateTimeFormatter of( @Nonnull final String p_pattern, @Nonnull final Locale p_locale )
+    {
+        return CACHE.get( new CKey( p_pattern, p_locale ), i -> DateTimeFormatter.ofPattern( i.m_pattern, i.m_locale ) );
+    }
+
+    /**
+     * returns the formatter cache
+     *
+     * @return cache
+     */
+    @Nonnull
+    public static CCache<?, DateTimeFormatter> cache()
+    {
+        return CACHE;
+    }
+
+    /**
+     * cache key of pattern and locale
+     */
+    private static final class CKey
+    {
+        /**
+         * pattern
+         */
+        private final String m_pattern;
+        /**
+         * locale
+         */
+        private final Locale m_locale;
+        /**
+         * hash code
+         */
+        private final int m_hash;
+
+        /**
+         * ctor
+         *
+         * @param p_pattern pattern
+         * @param p_locale locale
+         */
+        CKey( @Nonnull final String p_pattern, @Nonnull final Locale p_locale )
+        {
+            m_pattern = p_pattern;
+            m_locale = p_locale;
+            m_hash = Objects.hash( p_pattern, p_locale );
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return m_hash;
+        }
+
+        @Override
+        public boolean equals( final Object p_object )
+        {
+            return p_object instanceof CKey
+                   && m_pattern.equals( ( (CKey) p_object ).m_pattern )
+                   && m_locale.equals( ( (CKey) p_object ).m_locale );
+        }
+
+        @Override
+        public String toString()
+        {
+            return m_pattern + " / " + m_locale;
+        }
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * creates date-time objects of epoch values.
+ * The leading string arguments are options, the
+ * unit (seconds, milliseconds, nanoseconds, default
+ * milliseconds), the zone (default the system-default
+ * zone) and "compact" for compact date-time objects,
+ * all other arguments are epoch values, for each value
+ * the date-time object is returned, the action fails
+ * on an unknown zone or a value out of range
+ *
+ * {@code [D1|D2] = .datetime/fromepoch( 1497446865000, 1497533265000 );}
+ * {@code D = .datetime/fromepoch( "seconds", "Europe/Berlin", 1497446865 );}
+ * {@code D = .datetime/fromepoch( "compact", "nanoseconds", "UTC", 1497446865000000000 );}
+ */
+public final class CFromEpoch extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 3304180735717203452L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CFromEpoch.class, "datetime" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final List<String> l_options = l_arguments.stream()
+                                                  .takeWhile( i -> CCommon.isssignableto( i, String.class ) )
+                                                  .map( i -> i.<String>raw().trim() )
+                                                  .collect( Collectors.toList() );
+
+        final boolean l_compact = l_options.stream().anyMatch( "compact"::equalsIgnoreCase );
+        final EEpochUnit l_unit = l_options.stream()
+                                           .map( EEpochUnit::of )
+                                           .filter( Objects::nonNull )
+                                           .reduce( ( i, j ) -> j )
+                                           .orElse( EEpochUnit.MILLISECONDS );
+
+        try
+        {
+            final ZoneId l_zone = l_options.stream()
+                                           .filter( i -> !"compact".equalsIgnoreCase( i ) && Objects.isNull( EEpochUnit.of( i ) ) )
+                                           .reduce( ( i, j ) -> j )
+                                           .map( CZones::of )
+                                           .orElseGet( CZones::systemdefault );
+
+            // values are unboxed once, the date-time objects are created on primitive values
+            final long[] l_values = l_arguments.subList( l_options.size(), l_arguments.size() )
+                                               .stream()
+                                               .mapToLong( i -> i.<Number>raw().longValue() )
+                                               .toArray();
+
+            CDateTimeCommon.range( l_values.length, p_parallel )
+                           .mapToObj( i -> l_compact
+                                           ? CCompactDateTime.of( l_unit.epochnanoseconds( l_values[i] ), l_zone )
+                                           : l_unit.datetime( l_values[i], l_zone )
+                           )
+                           .map( CRawTerm::of )
+                           .forEachOrdered( p_return::add );
+        }
+        catch ( final DateTimeException | ArithmeticException l_exception )
+        {
+            throw new CExecutionIllegealArgumentException( p_context, l_exception );
+        }
+
+        return Stream.empty();
+    }
+
+}
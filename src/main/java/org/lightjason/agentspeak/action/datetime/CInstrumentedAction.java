@@ -0,0 +1,176 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Stream;
+
+
+/**
+ * action wrapper which records metrics.
+ * The wrapper records the latency, the number of returned
+ * elements and thrown exceptions of each execution in the
+ * metrics of the action name, if recording is disabled the
+ * wrapper calls the action directly, so all actions of the
+ * package can be wrapped on agent creation
+ *
+ * {@code CCommon.actionsFromPackage().map( CInstrumentedAction::of )}
+ *
+ * @see CActionMetrics
+ */
+public final class CInstrumentedAction implements IAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2862101826452291186L;
+    /**
+     * wrapped action
+     */
+    private final IAction m_action;
+    /**
+     * metrics
+     */
+    private final transient CActionMetrics m_metrics;
+
+    /**
+     * ctor
+     *
+     * @param p_action action
+     */
+    private CInstrumentedAction( @Nonnull final IAction p_action )
+    {
+        m_action = p_action;
+        m_metrics = CActionMetrics.of( p_action.name().path() );
+    }
+
+    /**
+     * wraps an action, an instrumented action is not wrapped twice
+     *
+     * @param p_action action
+     * @return instrumented action
+     */
+    @Nonnull
+    public static IAction of( @Nonnull final IAction p_action )
+    {
+        return p_action instanceof CInstrumentedAction ? p_action : new CInstrumentedAction( p_action );
+    }
+
+    /**
+     * returns the wrapped action
+     *
+     * @return action
+     */
+    @Nonnull
+    public IAction action()
+    {
+        return m_action;
+    }
+
+    /**
+     * returns the metrics
+     *
+     * @return metrics
+     */
+    @Nonnull
+    public CActionMetrics metrics()
+    {
+        return m_metrics;
+    }
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return m_action.name();
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return m_action.minimalArgumentNumber();
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        if ( !CActionMetrics.enabled() )
+            return m_action.execute( p_parallel, p_context, p_argument, p_return );
+
+        final int l_size = p_return.size();
+        final long l_start = System.nanoTime();
+        boolean l_error = true;
+        try
+        {
+            final Stream<IFuzzyValue<?>> l_result = m_action.execute( p_parallel, p_context, p_argument, p_return );
+            l_error = false;
+            return l_result;
+        }
+        finally
+        {
+            m_metrics.record( System.nanoTime() - l_start, Math.max( 0, p_return.size() - l_size ), l_error );
+        }
+    }
+
+    /**
+     * restores the metrics reference on deserialization
+     *
+     * @return instrumented action
+     */
+    private Object readResolve()
+    {
+        return new CInstrumentedAction( m_action );
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return m_action.hashCode();
+    }
+
+    @Override
+    public boolean equals( final Object p_object )
+    {
+        return p_object instanceof CInstrumentedAction && m_action.equals( ( (CInstrumentedAction) p_object ).m_action );
+    }
+
+    @Override
+    public String toString()
+    {
+        return m_action.toString();
+    }
+
+}
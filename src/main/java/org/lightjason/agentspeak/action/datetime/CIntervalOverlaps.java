@@ -0,0 +1,66 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.common.IPath;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+
+
+/**
+ * returns the intervals of an index, which overlap the query.
+ * The first argument is the interval index, each
+ * other argument is a query, an interval object or
+ * a zoned or compact date-time object or epoch milliseconds,
+ * for each query a list of intervals is returned
+ *
+ * {@code [L1|L2] = .datetime/intervaloverlaps( Index, Interval1, DateTime2 );}
+ */
+public final class CIntervalOverlaps extends IIntervalQuery
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2271058329187710403L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CIntervalOverlaps.class, "datetime" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnull
+    @Override
+    protected List<CDateTimeInterval> apply( @Nonnull final CIntervalTree p_index, @Nonnull final CDateTimeInterval p_interval )
+    {
+        return p_index.overlaps( p_interval );
+    }
+
+}
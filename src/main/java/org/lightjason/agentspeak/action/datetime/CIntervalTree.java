@@ -0,0 +1,217 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * immutable interval tree of date-time intervals.
+ * The intervals are stored sorted by start within an array,
+ * the tree is implicit, the node of a range is the middle
+ * element and stores the maximum end of the range, so a
+ * query runs in O(log n + k) for k results, results are
+ * ordered by start
+ */
+public final class CIntervalTree implements Serializable
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6047307651566047458L;
+    /**
+     * intervals ordered by start
+     */
+    private final CDateTimeInterval[] m_intervals;
+    /**
+     * epoch nano-seconds of the starts
+     */
+    private final long[] m_starts;
+    /**
+     * epoch nano-seconds of the ends
+     */
+    private final long[] m_ends;
+    /**
+     * maximum end of the range of each node
+     */
+    private final long[] m_maximumends;
+
+    /**
+     * ctor
+     *
+     * @param p_intervals sorted intervals
+     */
+    private CIntervalTree( @Nonnull final CDateTimeInterval[] p_intervals )
+    {
+        m_intervals = p_intervals;
+        m_starts = Arrays.stream( p_intervals ).mapToLong( CDateTimeInterval::startepoch ).toArray();
+        m_ends = Arrays.stream( p_intervals ).mapToLong( CDateTimeInterval::endepoch ).toArray();
+        m_maximumends = new long[p_intervals.length];
+        this.maximumend( 0, p_intervals.length );
+    }
+
+    /**
+     * creates an interval tree
+     *
+     * @param p_intervals intervals
+     * @return interval tree
+     */
+    @Nonnull
+    public static CIntervalTree of( @Nonnull final Collection<CDateTimeInterval> p_intervals )
+    {
+        final CDateTimeInterval[] l_intervals = p_intervals.toArray( CDateTimeInterval[]::new );
+        Arrays.sort( l_intervals );
+        return new CIntervalTree( l_intervals );
+    }
+
+    /**
+     * returns the number of intervals
+     *
+     * @return number of intervals
+     */
+    @Nonnegative
+    public int size()
+    {
+        return m_intervals.length;
+    }
+
+    /**
+     * returns all intervals, which overlap an interval
+     *
+     * @param p_interval interval
+     * @return intervals ordered by start
+     */
+    @Nonnull
+    public List<CDateTimeInterval> overlaps( @Nonnull final CDateTimeInterval p_interval )
+    {
+        return this.query( p_interval.endepoch() - 1, p_interval.startepoch() + 1 );
+    }
+
+    /**
+     * returns all intervals, which contain an interval
+     *
+     * @param p_interval interval
+     * @return intervals ordered by start
+     */
+    @Nonnull
+    public List<CDateTimeInterval> contains( @Nonnull final CDateTimeInterval p_interval )
+    {
+        return this.query( p_interval.startepoch(), p_interval.endepoch() );
+    }
+
+    /**
+     * returns all intervals, which contain an instant
+     *
+     * @param p_epochnanoseconds epoch nano-seconds of the instant
+     * @return intervals ordered by start
+     */
+    @Nonnull
+    public List<CDateTimeInterval> stab( final long p_epochnanoseconds )
+    {
+        return p_epochnanoseconds == Long.MAX_VALUE
+               ? Collections.emptyList()
+               : this.query( p_epochnanoseconds, p_epochnanoseconds + 1 );
+    }
+
+    @Override
+    public String toString()
+    {
+        return Arrays.toString( m_intervals );
+    }
+
+    /**
+     * returns all intervals with start less or equal
+     * than the maximum start and end greater or equal
+     * than the minimum end
+     *
+     * @param p_maximumstart maximum start
+     * @param p_minimumend minimum end
+     * @return intervals ordered by start
+     */
+    @Nonnull
+    private List<CDateTimeInterval> query( final long p_maximumstart, final long p_minimumend )
+    {
+        final List<CDateTimeInterval> l_result = new ArrayList<>();
+        this.query( 0, m_intervals.length, p_maximumstart, p_minimumend, l_result );
+        return l_result;
+    }
+
+    /**
+     * in-order query of a range
+     *
+     * @param p_low range start (inclusive)
+     * @param p_high range end (exclusive)
+     * @param p_maximumstart maximum start
+     * @param p_minimumend minimum end
+     * @param p_result result list
+     */
+    private void query( final int p_low, final int p_high, final long p_maximumstart, final long p_minimumend,
+                        @Nonnull final List<CDateTimeInterval> p_result )
+    {
+        if ( p_low >= p_high )
+            return;
+
+        final int l_middle = ( p_low + p_high ) >>> 1;
+        if ( m_maximumends[l_middle] < p_minimumend )
+            return;
+
+        this.query( p_low, l_middle, p_maximumstart, p_minimumend, p_result );
+
+        if ( m_starts[l_middle] > p_maximumstart )
+            return;
+
+        if ( m_ends[l_middle] >= p_minimumend )
+            p_result.add( m_intervals[l_middle] );
+
+        this.query( l_middle + 1, p_high, p_maximumstart, p_minimumend, p_result );
+    }
+
+    /**
+     * builds the maximum ends of a range
+     *
+     * @param p_low range start (inclusive)
+     * @param p_high range end (exclusive)
+     * @return maximum end of the range
+     */
+    private long maximumend( final int p_low, final int p_high )
+    {
+        if ( p_low >= p_high )
+            return Long.MIN_VALUE;
+
+        final int l_middle = ( p_low + p_high ) >>> 1;
+        m_maximumends[l_middle] = Math.max(
+            m_ends[l_middle],
+            Math.max( this.maximumend( p_low, l_middle ), this.maximumend( l_middle + 1, p_high ) )
+        );
+        return m_maximumends[l_middle];
+    }
+
+}
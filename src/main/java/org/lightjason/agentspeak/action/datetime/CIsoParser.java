@@ -0,0 +1,323 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+
+/**
+ * parser of iso-8601 date-time strings.
+ * The common shapes of ISO_OFFSET_DATE_TIME and ISO_ZONED_DATE_TIME
+ * ({@code yyyy-MM-ddTHH:mm[:ss[.fraction]](Z|+HH:MM|-HH:MM)[[zone]]})
+ * are read directly from the characters, all other strings are passed
+ * to the parser of the jdk, so the result and the errors are equal
+ * to {@code ZonedDateTime.parse}
+ */
+public final class CIsoParser
+{
+    /**
+     * default number of cached zone regions
+     */
+    private static final int ZONECACHESIZE = 256;
+    /**
+     * cache of the zone regions
+     */
+    private static final CCache<String, ZoneId> ZONES = new CCache<>( "isozone", ZONECACHESIZE );
+    /**
+     * length of the shortest string {@code yyyy-MM-ddTHH:mmZ}
+     */
+    private static final int MINIMUMLENGTH = 17;
+    /**
+     * maximum number of fraction digits
+     */
+    private static final int FRACTIONDIGITS = 9;
+
+    /**
+     * ctor
+     */
+    private CIsoParser()
+    {
+    }
+
+    /**
+     * parses a date-time string, strings which cannot be parsed
+     * directly are parsed by the formatter of the JDK and emit
+     * a flight recorder event
+     *
+     * @param p_text string
+     * @return date-time
+     * @throws java.time.format.DateTimeParseException on parsing errors
+     */
+    @Nonnull
+    public static ZonedDateTime parse( @Nonnull final String p_text )
+    {
+        final ZonedDateTime l_datetime = tryparse( p_text );
+        if ( l_datetime != null )
+            return l_datetime;
+
+        final CParseFallbackEvent l_event = CParseFallbackEvent.start();
+        boolean l_success = false;
+        try
+        {
+            final ZonedDateTime l_fallback = ZonedDateTime.parse( p_text );
+            l_success = true;
+            return l_fallback;
+        }
+        finally
+        {
+            l_event.finish( p_text, l_success );
+        }
+    }
+
+    /**
+     * parses the common shapes of a date-time string
+     *
+     * @param p_text string
+     * @return date-time or null if the string cannot be parsed directly
+     */
+    @Nullable
+    static ZonedDateTime tryparse( @Nonnull final String p_text )
+    {
+        final int l_length = p_text.length();
+        if ( l_length < MINIMUMLENGTH
+             || p_text.charAt( 4 ) != '-' || p_text.charAt( 7 ) != '-'
+             || p_text.charAt( 10 ) != 'T' && p_text.charAt( 10 ) != 't'
+             || p_text.charAt( 13 ) != ':' )
+            return null;
+
+        final int l_year = digits( p_text, 0, 4 );
+        final int l_month = digits( p_text, 5, 2 );
+        final int l_day = digits( p_text, 8, 2 );
+        final int l_hour = digits( p_text, 11, 2 );
+        final int l_minute = digits( p_text, 14, 2 );
+        if ( l_year < 0 || l_month < 0 || l_day < 0 || l_hour < 0 || l_minute < 0 )
+            return null;
+
+        // optional seconds and fraction
+        int l_index = 16;
+        int l_second = 0;
+        int l_nano = 0;
+        if ( p_text.charAt( l_index ) == ':' )
+        {
+            l_second = l_length < l_index + 3 ? -1 : digits( p_text, l_index + 1, 2 );
+            if ( l_second < 0 )
+                return null;
+            l_index += 3;
+
+            if ( l_index < l_length && p_text.charAt( l_index ) == '.' )
+            {
+                final int l_start = ++l_index;
+                while ( l_index < l_length && l_index - l_start < FRACTIONDIGITS && isdigit( p_text.charAt( l_index ) ) )
+                    l_nano = l_nano * 10 + p_text.charAt( l_index++ ) - '0';
+                if ( l_index == l_start || l_index < l_length && isdigit( p_text.charAt( l_index ) ) )
+                    return null;
+                for ( int i = l_index - l_start; i < FRACTIONDIGITS; i++ )
+                    l_nano *= 10;
+            }
+        }
+
+        // offset
+        if ( l_index >= l_length )
+            return null;
+        final ZoneOffset l_offset;
+        if ( p_text.charAt( l_index ) == 'Z' )
+        {
+            l_offset = ZoneOffset.UTC;
+            l_index++;
+        }
+        else
+        {
+            l_offset = offset( p_text, l_index );
+            if ( l_offset == null )
+                return null;
+            l_index += 6;
+        }
+
+        // optional zone region
+        final ZoneId l_zone;
+        if ( l_index == l_length )
+            l_zone = l_offset;
+        else
+        {
+            if ( p_text.charAt( l_index ) != '[' || p_text.charAt( l_length - 1 ) != ']' || !iszone( p_text, l_index + 1, l_length - 1 ) )
+                return null;
+            l_zone = zone( p_text.substring( l_index + 1, l_length - 1 ) );
+            if ( l_zone == null )
+                return null;
+        }
+
+        try
+        {
+            return ZonedDateTime.ofInstant( LocalDateTime.of( l_year, l_month, l_day, l_hour, l_minute, l_second, l_nano ), l_offset, l_zone );
+        }
+        catch ( final DateTimeException l_exception )
+        {
+            return null;
+        }
+    }
+
+    /**
+     * returns the zone cache
+     *
+     * @return cache
+     */
+    @Nonnull
+    public static CCache<String, ZoneId> cache()
+    {
+        return ZONES;
+    }
+
+    /**
+     * reads a fixed number of digits
+     *
+     * @param p_text string
+     * @param p_start start index
+     * @param p_count number of digits
+     * @return value or -1 on a non-digit character
+     */
+    private static int digits( @Nonnull final String p_text, final int p_start, final int p_count )
+    {
+        int l_value = 0;
+        for ( int i = p_start; i < p_start + p_count; i++ )
+        {
+            final char l_char = p_text.charAt( i );
+            if ( !isdigit( l_char ) )
+                return -1;
+            l_value = l_value * 10 + l_char - '0';
+        }
+        return l_value;
+    }
+
+    /**
+     * checks if a character is an ascii digit
+     *
+     * @param p_char character
+     * @return digit check
+     */
+    private static boolean isdigit( final char p_char )
+    {
+        return p_char >= '0' && p_char <= '9';
+    }
+
+    /**
+     * reads an offset of the shape {@code +HH:MM} or {@code -HH:MM}
+     *
+     * @param p_text string
+     * @param p_start start index
+     * @return offset or null
+     */
+    @Nullable
+    private static ZoneOffset offset( @Nonnull final String p_text, final int p_start )
+    {
+        if ( p_text.length() < p_start + 6 || p_text.charAt( p_start + 3 ) != ':' )
+            return null;
+
+        final char l_sign = p_text.charAt( p_start );
+        final int l_hours = digits( p_text, p_start + 1, 2 );
+        final int l_minutes = digits( p_text, p_start + 4, 2 );
+        if ( l_sign != '+' && l_sign != '-' || l_hours < 0 || l_minutes < 0 || l_minutes > 59 || l_hours > 18 || l_hours == 18 && l_minutes > 0 )
+            return null;
+
+        final int l_seconds = ( l_hours * 60 + l_minutes ) * 60;
+        return ZoneOffset.ofTotalSeconds( l_sign == '-' ? -l_seconds : l_seconds );
+    }
+
+    /**
+     * checks the characters of a zone region, offset-based
+     * regions with an UT, UTC or GMT prefix are passed to the
+     * jdk parser, the plain UT, UTC and GMT regions are accepted
+     *
+     * @param p_text string
+     * @param p_start start index
+     * @param p_end end index (exclusive)
+     * @return valid region characters
+     */
+    private static boolean iszone( @Nonnull final String p_text, final int p_start, final int p_end )
+    {
+        if ( p_start >= p_end || !isletter( p_text.charAt( p_start ) ) )
+            return false;
+
+        if ( p_text.startsWith( "UT", p_start ) || p_text.startsWith( "GMT", p_start ) )
+            return isregion( p_text, p_start, p_end, "UT" ) || isregion( p_text, p_start, p_end, "UTC" ) || isregion( p_text, p_start, p_end, "GMT" );
+
+        for ( int i = p_start + 1; i < p_end; i++ )
+        {
+            final char l_char = p_text.charAt( i );
+            if ( !( isletter( l_char ) || isdigit( l_char ) || l_char == '/' || l_char == '_' || l_char == '-' ) )
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * checks if a range is equal to a region
+     *
+     * @param p_text string
+     * @param p_start start index
+     * @param p_end end index (exclusive)
+     * @param p_region region
+     * @return equality
+     */
+    private static boolean isregion( @Nonnull final String p_text, final int p_start, final int p_end, @Nonnull final String p_region )
+    {
+        return p_end - p_start == p_region.length() && p_text.startsWith( p_region, p_start );
+    }
+
+    /**
+     * checks if a character is an ascii letter
+     *
+     * @param p_char character
+     * @return letter check
+     */
+    private static boolean isletter( final char p_char )
+    {
+        return p_char >= 'a' && p_char <= 'z' || p_char >= 'A' && p_char <= 'Z';
+    }
+
+    /**
+     * resolves a zone region
+     *
+     * @param p_zone zone string
+     * @return zone or null if the zone is unknown
+     */
+    @Nullable
+    private static ZoneId zone( @Nonnull final String p_zone )
+    {
+        try
+        {
+            return ZONES.get( p_zone, ZoneId::of );
+        }
+        catch ( final DateTimeException l_exception )
+        {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+
+
+/**
+ * mutable open-addressing hash map of primitive long
+ * keys to int counters, so counting does not create
+ * objects per element, the map is not thread-safe,
+ * parallel counting uses one map per thread which
+ * are merged afterwards
+ */
+final class CLongCounter
+{
+    /**
+     * initial capacity
+     */
+    private static final int INITIALCAPACITY = 16;
+    /**
+     * hash spread constant (golden ratio)
+     */
+    private static final long SPREAD = 0x9E3779B97F4A7C15L;
+    /**
+     * keys
+     */
+    private long[] m_keys = new long[INITIALCAPACITY];
+    /**
+     * counters, zero marks an empty slot
+     */
+    private int[] m_counts = new int[INITIALCAPACITY];
+    /**
+     * number of keys
+     */
+    private int m_size;
+
+    /**
+     * increments the counter of a key
+     *
+     * @param p_key key
+     */
+    void increment( final long p_key )
+    {
+        this.add( p_key, 1 );
+    }
+
+    /**
+     * adds a value to the counter of a key
+     *
+     * @param p_key key
+     * @param p_count value, must be greater than zero
+     */
+    void add( final long p_key, @Nonnegative final int p_count )
+    {
+        final int l_slot = this.slot( p_key );
+        if ( m_counts[l_slot] == 0 )
+        {
+            m_keys[l_slot] = p_key;
+            m_size++;
+        }
+        m_counts[l_slot] += p_count;
+
+        if ( 2 * m_size > m_keys.length )
+            this.grow();
+    }
+
+    /**
+     * merges the counters of another map
+     *
+     * @param p_counter map
+     */
+    void merge( @Nonnull final CLongCounter p_counter )
+    {
+        for ( int i = 0; i < p_counter.m_keys.length; i++ )
+            if ( p_counter.m_counts[i] > 0 )
+                this.add( p_counter.m_keys[i], p_counter.m_counts[i] );
+    }
+
+    /**
+     * returns the counter of a key
+     *
+     * @param p_key key
+     * @return counter
+     */
+    @Nonnegative
+    int get( final long p_key )
+    {
+        return m_counts[this.slot( p_key )];
+    }
+
+    /**
+     * returns the number of keys
+     *
+     * @return number of keys
+     */
+    @Nonnegative
+    int size()
+    {
+        return m_size;
+    }
+
+    /**
+     * returns the sorted keys
+     *
+     * @return key array
+     */
+    @Nonnull
+    long[] keys()
+    {
+        final long[] l_keys = new long[m_size];
+        for ( int i = 0, j = 0; i < m_keys.length; i++ )
+            if ( m_counts[i] > 0 )
+                l_keys[j++] = m_keys[i];
+
+        Arrays.sort( l_keys );
+        return l_keys;
+    }
+
+    /**
+     * returns the slot of a key, which is the
+     * slot of the key or the first empty slot
+     *
+     * @param p_key key
+     * @return slot index
+     */
+    private int slot( final long p_key )
+    {
+        final int l_mask = m_keys.length - 1;
+        int l_slot = (int) ( ( p_key * SPREAD ) >>> 32 ) & l_mask;
+        while ( m_counts[l_slot] > 0 && m_keys[l_slot] != p_key )
+            l_slot = ( l_slot + 1 ) & l_mask;
+        return l_slot;
+    }
+
+    /**
+     * doubles the capacity
+     */
+    private void grow()
+    {
+        final long[] l_keys = m_keys;
+        final int[] l_counts = m_counts;
+
+        m_keys = new long[2 * l_keys.length];
+        m_counts = new int[2 * l_counts.length];
+        for ( int i = 0; i < l_keys.length; i++ )
+            if ( l_counts[i] > 0 )
+            {
+                final int l_slot = this.slot( l_keys[i] );
+                m_keys[l_slot] = l_keys[i];
+                m_counts[l_slot] = l_counts[i];
+            }
+    }
+
+}
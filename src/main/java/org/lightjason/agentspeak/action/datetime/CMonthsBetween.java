@@ -23,13 +23,9 @@
 
 package org.lightjason.agentspeak.action.datetime;
 
-import org.joda.time.Instant;
-import org.joda.time.Months;
 import org.lightjason.agentspeak.common.IPath;
 
 import javax.annotation.Nonnull;
-import java.util.List;
-import java.util.stream.Stream;
 
 
 
@@ -61,14 +57,10 @@ public final class CMonthsBetween extends IBetween
         return NAME;
     }
 
-    @Nonnull
     @Override
-    protected Stream<?> apply( @Nonnull final Stream<List<Instant>> p_datetime )
+    protected long apply( final long p_start, final long p_end )
     {
-        return p_datetime
-            .map( i -> Months.monthsBetween( i.get( 0 ), i.get( 1 ) ) )
-            .mapToDouble( Months::getMonths )
-            .boxed();
+        return months( p_start, p_end );
     }
 
 }
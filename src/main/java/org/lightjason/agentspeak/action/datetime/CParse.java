@@ -0,0 +1,145 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * parses strings with a custom pattern.
+ * The first argument is the pattern of the formatter,
+ * if the second argument is the string "zone", the third
+ * argument is a zone (empty or "current" for the system-default
+ * zone), which is used if the string does not contain a zone,
+ * without the zone argument the system-default zone is used,
+ * all other arguments are strings, for each string the
+ * date-time object is returned, strings without a time
+ * are parsed to the start of the day, the compiled formatters
+ * are shared and cached by pattern, if the first argument is
+ * "compact", compact date-time objects are returned, the action
+ * fails on an invalid pattern, zone or string
+ *
+ * {@code [D1|D2] = .datetime/parse( "dd.MM.yyyy HH:mm", "14.06.2017 13:27", "15.06.2017 08:00" );}
+ * {@code D = .datetime/parse( "dd.MM.yyyy HH:mm", "zone", "Europe/Berlin", "14.06.2017 13:27" );}
+ * {@code D = .datetime/parse( "dd.MM.yyyy", "zone", "Asia/Tokyo", "14.06.2017" );}
+ * {@code D = .datetime/parse( "compact", "dd.MM.yyyy HH:mm", "14.06.2017 13:27" );}
+ */
+public final class CParse extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -1466318062400934880L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CParse.class, "datetime" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_flatten = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final boolean l_compact = CDateTimeCommon.compact( l_flatten );
+        final List<ITerm> l_arguments = l_compact ? l_flatten.subList( 1, l_flatten.size() ) : l_flatten;
+        if ( l_arguments.isEmpty() )
+            return Stream.empty();
+
+        final boolean l_zone = l_arguments.size() > 2
+                               && CCommon.isssignableto( l_arguments.get( 1 ), String.class )
+                               && "zone".equalsIgnoreCase( l_arguments.get( 1 ).<String>raw().trim() );
+
+        try
+        {
+            final DateTimeFormatter l_formatter = CFormatters.of( l_arguments.get( 0 ).raw() )
+                                                             .withZone( l_zone ? CZones.of( l_arguments.get( 2 ).raw() ) : CZones.systemdefault() );
+
+            CDateTimeCommon.stream( l_arguments.subList( l_zone ? 3 : 1, l_arguments.size() ), p_parallel )
+                           .map( i -> parse( i.raw(), l_formatter ) )
+                           .map( i -> l_compact ? CCompactDateTime.of( i ) : i )
+                           .map( CRawTerm::of )
+                           .forEachOrdered( p_return::add );
+        }
+        catch ( final IllegalArgumentException | DateTimeException | ArithmeticException l_exception )
+        {
+            throw new CExecutionIllegealArgumentException( p_context, l_exception );
+        }
+
+        return Stream.empty();
+    }
+
+    /**
+     * parses a string, a string without
+     * a time is parsed to the start of the day
+     *
+     * @param p_text string
+     * @param p_formatter formatter with zone
+     * @return date-time
+     */
+    @Nonnull
+    private static ZonedDateTime parse( @Nonnull final String p_text, @Nonnull final DateTimeFormatter p_formatter )
+    {
+        final TemporalAccessor l_parsed = p_formatter.parse( p_text );
+        return l_parsed.query( TemporalQueries.localTime() ) == null
+               ? LocalDate.from( l_parsed ).atStartOfDay( ZoneId.from( l_parsed ) )
+               : ZonedDateTime.from( l_parsed );
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import javax.annotation.Nonnull;
+
+
+/**
+ * flight recorder event of a parse fallback,
+ * which is emitted if a date-time string cannot be
+ * parsed by the direct parser and the formatter of
+ * the JDK is used, the event is disabled by default
+ * and must be enabled on the recording
+ */
+@Name( CParseFallbackEvent.NAME )
+@Label( "Date-Time Parse Fallback" )
+@Description( "parsing of a date-time string with the formatter fallback" )
+@Category( {"LightJason", "Date-Time"} )
+@Enabled( false )
+@StackTrace( false )
+final class CParseFallbackEvent extends Event
+{
+    /**
+     * event name
+     */
+    static final String NAME = "org.lightjason.agentspeak.action.datetime.ParseFallback";
+
+    /**
+     * parsed text
+     */
+    @Name( "text" )
+    @Label( "Text" )
+    private String m_text;
+    /**
+     * successful parsing
+     */
+    @Name( "success" )
+    @Label( "Success" )
+    private boolean m_success;
+
+    /**
+     * creates and starts the event
+     *
+     * @return event
+     */
+    @Nonnull
+    static CParseFallbackEvent start()
+    {
+        final CParseFallbackEvent l_event = new CParseFallbackEvent();
+        l_event.begin();
+        return l_event;
+    }
+
+    /**
+     * ends the event and commits it, if
+     * the event is enabled on the recording
+     *
+     * @param p_text parsed text
+     * @param p_success successful parsing
+     */
+    void finish( @Nonnull final String p_text, final boolean p_success )
+    {
+        this.end();
+        if ( !this.shouldCommit() )
+            return;
+
+        m_text = p_text;
+        m_success = p_success;
+        this.commit();
+    }
+
+}
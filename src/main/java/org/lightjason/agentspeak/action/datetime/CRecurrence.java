@@ -0,0 +1,120 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * returns the next fire times of a cron expression.
+ * The first argument is a cron expression with the fields
+ * minute, hour, day-of-month, month and day-of-week, the
+ * second argument the number of fire times, the optional
+ * third argument the zone of the fire times (default the
+ * zone of each date-time object), all other arguments are
+ * zoned or compact date-time objects or epoch milliseconds,
+ * without date-time objects the current date-time is used,
+ * the action returns for each date-time object a list of
+ * the next fire times strictly after it, compiled expressions
+ * are cached, daylight-saving gaps and overlaps are resolved
+ * by the zone rules
+ *
+ * {@code L = .datetime/recurrence( "0 8 * * mon", 3, "Europe/Berlin" );}
+ * {@code [L1|L2] = .datetime/recurrence( "*&#47;15 9-17 * * mon-fri", 10, DateTime1, DateTime2 );}
+ */
+public final class CRecurrence extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -8861376484093745931L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CRecurrence.class, "datetime" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final boolean l_zone = l_arguments.size() > 2 && CCommon.isssignableto( l_arguments.get( 2 ), String.class );
+        final List<ITerm> l_elements = l_arguments.subList( l_zone ? 3 : 2, l_arguments.size() );
+
+        try
+        {
+            final CCronExpression l_expression = CCronExpression.of( l_arguments.get( 0 ).raw() );
+            final int l_number = l_arguments.get( 1 ).<Number>raw().intValue();
+            final ZoneId l_target = l_zone ? CZones.of( l_arguments.get( 2 ).raw() ) : null;
+
+            final Stream<Object> l_datetimes = l_elements.isEmpty()
+                                               ? Stream.of( IDateTime.clock().now() )
+                                               : CDateTimeCommon.stream( l_elements, p_parallel ).map( ITerm::raw );
+
+            l_datetimes.map( CDateTimeCommon::datetime )
+                       .map( i -> l_target == null ? i : i.withZoneSameInstant( l_target ) )
+                       .map( i -> l_expression.next( i, l_number ) )
+                       .map( CRawTerm::of )
+                       .forEachOrdered( p_return::add );
+        }
+        catch ( final IllegalArgumentException | DateTimeException l_exception )
+        {
+            throw new CExecutionIllegealArgumentException( p_context, l_exception );
+        }
+
+        return Stream.empty();
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * moves scheduled goals to another deadline.
+ * The arguments are pairs of a timeout handle of the
+ * schedule action and the new deadline (zoned or compact
+ * date-time object or epoch milliseconds), the action
+ * returns for each pair true if the timeout was pending
+ *
+ * {@code [R1|R2] = .datetime/reschedule( Handle1, DateTime1, Handle2, DateTime2 );}
+ */
+public final class CReschedule extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -1290263064612394718L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CReschedule.class, "datetime" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        if ( l_arguments.size() % 2 != 0
+             || !IntStream.range( 0, l_arguments.size() / 2 )
+                          .allMatch( i -> l_arguments.get( 2 * i ).raw() instanceof CTimerWheel.CTimeout<?>
+                                          && CDateTimeCommon.isdatetime( l_arguments.get( 2 * i + 1 ).raw() ) ) )
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( CReschedule.class, "argumenterror" )
+            );
+
+        try
+        {
+            IntStream.range( 0, l_arguments.size() / 2 )
+                     .mapToObj( i -> l_arguments.get( 2 * i ).<CTimerWheel.CTimeout<?>>raw().reschedule(
+                         CDateTimeCommon.datetime( l_arguments.get( 2 * i + 1 ).raw() )
+                     ) )
+                     .map( CRawTerm::of )
+                     .forEach( p_return::add );
+        }
+        catch ( final ArithmeticException l_exception )
+        {
+            throw new CExecutionIllegealArgumentException( p_context, l_exception );
+        }
+
+        return Stream.empty();
+    }
+
+}
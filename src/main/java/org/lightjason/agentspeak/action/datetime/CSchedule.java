@@ -0,0 +1,181 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.agent.IAgent;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ILiteral;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.CTrigger;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * schedules goals at a deadline.
+ * The arguments are pairs of a deadline (zoned or compact
+ * date-time object or epoch milliseconds) and a literal,
+ * the literal is added as goal to the calling agent, if the
+ * deadline is reached, the deadlines are stored within a timing
+ * wheel of the calling agent, which is advanced by the tick action
+ * of the agent or the runtime, so an agent fires only its own goals,
+ * the wheels are referenced weakly by the agent, so a released
+ * agent drops its pending deadlines, the action returns a timeout
+ * handle for each pair, which can be used by the cancel and
+ * reschedule actions
+ *
+ * {@code [H1|H2] = .datetime/schedule( DateTime1, timeout(1), DateTime2, timeout(2) );}
+ */
+public final class CSchedule extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -6690582860131208437L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CSchedule.class, "datetime" );
+    /**
+     * timing wheels of the agents, the wheels
+     * do not reference the agent, so the agent
+     * can be collected
+     */
+    private static final Map<IAgent<?>, CTimerWheel<ITrigger>> WHEELS = Collections.synchronizedMap( new WeakHashMap<>() );
+    /**
+     * factory of the timing wheels, default with 10 ms ticks
+     */
+    private static final AtomicReference<Supplier<CTimerWheel<ITrigger>>> FACTORY = new AtomicReference<>(
+        () -> new CTimerWheel<>( () -> IDateTime.clock().now(), Duration.ofMillis( 10 ), 1024 )
+    );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        if ( l_arguments.size() % 2 != 0
+             || !IntStream.range( 0, l_arguments.size() / 2 )
+                          .allMatch( i -> CDateTimeCommon.isdatetime( l_arguments.get( 2 * i ).raw() )
+                                          && l_arguments.get( 2 * i + 1 ).term() instanceof ILiteral ) )
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( CSchedule.class, "argumenterror" )
+            );
+
+        final CTimerWheel<ITrigger> l_wheel = wheel( p_context.agent() );
+
+        try
+        {
+            IntStream.range( 0, l_arguments.size() / 2 )
+                     .mapToObj( i -> l_wheel.schedule(
+                         CDateTimeCommon.datetime( l_arguments.get( 2 * i ).raw() ),
+                         CTrigger.of( ITrigger.EType.ADDGOAL, l_arguments.get( 2 * i + 1 ).<ILiteral>term() )
+                     ) )
+                     .map( CRawTerm::of )
+                     .forEach( p_return::add );
+        }
+        catch ( final ArithmeticException l_exception )
+        {
+            throw new CExecutionIllegealArgumentException( p_context, l_exception );
+        }
+
+        return Stream.empty();
+    }
+
+    /**
+     * returns the timing wheel of an agent,
+     * the wheel is created on the first call
+     *
+     * @param p_agent agent
+     * @return timing wheel
+     */
+    @Nonnull
+    public static CTimerWheel<ITrigger> wheel( @Nonnull final IAgent<?> p_agent )
+    {
+        return WHEELS.computeIfAbsent( p_agent, i -> FACTORY.get().get() );
+    }
+
+    /**
+     * removes the timing wheel of an agent with
+     * all pending deadlines, e.g. on agent shutdown
+     *
+     * @param p_agent agent
+     * @return number of dropped deadlines
+     */
+    @Nonnegative
+    public static int remove( @Nonnull final IAgent<?> p_agent )
+    {
+        final CTimerWheel<ITrigger> l_wheel = WHEELS.remove( p_agent );
+        return l_wheel == null ? 0 : l_wheel.size();
+    }
+
+    /**
+     * sets the factory of the timing wheels, existing
+     * wheels are not changed
+     *
+     * @param p_factory wheel factory
+     * @return previous factory
+     */
+    @Nonnull
+    public static Supplier<CTimerWheel<ITrigger>> factory( @Nonnull final Supplier<CTimerWheel<ITrigger>> p_factory )
+    {
+        return FACTORY.getAndSet( p_factory );
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import javax.annotation.Nonnull;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+
+/**
+ * deterministic simulated clock, the current
+ * date-time is only changed by set and advance,
+ * so the results of a replay are reproducible, set
+ * and advance are serialized, reads are lock-free
+ */
+public final class CSimulatedClock implements IClock
+{
+    /**
+     * current date-time
+     */
+    private volatile ZonedDateTime m_datetime;
+
+    /**
+     * ctor
+     *
+     * @param p_datetime start date-time
+     */
+    public CSimulatedClock( @Nonnull final ZonedDateTime p_datetime )
+    {
+        m_datetime = p_datetime;
+    }
+
+    @Nonnull
+    @Override
+    public ZonedDateTime now()
+    {
+        return m_datetime;
+    }
+
+    /**
+     * sets the current date-time
+     *
+     * @param p_datetime date-time
+     * @return self reference
+     */
+    @Nonnull
+    public synchronized CSimulatedClock set( @Nonnull final ZonedDateTime p_datetime )
+    {
+        m_datetime = p_datetime;
+        return this;
+    }
+
+    /**
+     * advances the current date-time
+     *
+     * @param p_duration duration
+     * @return new current date-time
+     */
+    @Nonnull
+    public synchronized ZonedDateTime advance( @Nonnull final Duration p_duration )
+    {
+        m_datetime = m_datetime.plus( p_duration );
+        return m_datetime;
+    }
+
+}
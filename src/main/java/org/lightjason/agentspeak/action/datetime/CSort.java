@@ -0,0 +1,201 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * sorts date-time objects on the time-line.
+ * The leading string arguments are options, "ascending"
+ * (default) or "descending" for the order and "distinct"
+ * to remove date-time objects of the same instant (the
+ * first one is kept), other strings are rejected, all
+ * other arguments are zoned or
+ * compact date-time objects or epoch milliseconds, the
+ * sorting is done on a primitive key array and is stable
+ * for the ascending order
+ *
+ * {@code [D1|D2|D3] = .datetime/sort( DateTime1, DateTime2, DateTime3 );}
+ * {@code L = .datetime/sort( "descending", "distinct", DateTimeList );}
+ */
+public final class CSort extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2186785626617325806L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CSort.class, "datetime" );
+    /**
+     * options
+     */
+    private static final Set<String> OPTIONS = Set.of( "ascending", "descending", "distinct" );
+    /**
+     * time-line comparator of date-time objects
+     */
+    private static final Comparator<Object> COMPARATOR = Comparator.comparingLong( CDateTimeCommon::epochsecond )
+                                                                   .thenComparingInt( CDateTimeCommon::nano );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final List<String> l_options = l_arguments.stream()
+                                                  .takeWhile( i -> CCommon.isssignableto( i, String.class ) )
+                                                  .map( i -> i.<String>raw().trim().toLowerCase( Locale.ROOT ) )
+                                                  .collect( Collectors.toList() );
+        final String l_unknown = l_options.stream().filter( i -> !OPTIONS.contains( i ) ).findFirst().orElse( null );
+        if ( l_unknown != null )
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( CSort.class, "unknownoption", l_unknown )
+            );
+
+        final List<ITerm> l_elements = l_arguments.subList( l_options.size(), l_arguments.size() );
+
+        final ITerm[] l_sorted = sort( l_elements, CDateTimeCommon.parallel( l_elements.size(), p_parallel ) );
+        final boolean l_distinct = l_options.contains( "distinct" );
+        final boolean l_descending = l_options.contains( "descending" );
+
+        IntStream.range( 0, l_sorted.length )
+                 .map( i -> l_descending ? l_sorted.length - 1 - i : i )
+                 .filter( i -> !l_distinct || i == 0 || compare( l_sorted[i - 1], l_sorted[i] ) != 0 )
+                 .mapToObj( i -> l_sorted[i] )
+                 .forEachOrdered( p_return::add );
+
+        return Stream.empty();
+    }
+
+    /**
+     * sorts the terms in ascending order, the terms are placed
+     * at the lower bound of their key within the sorted key
+     * array, equal keys are filled in input order
+     *
+     * @param p_elements date-time terms
+     * @param p_parallel parallel sorting
+     * @return sorted terms
+     */
+    @Nonnull
+    private static ITerm[] sort( @Nonnull final List<ITerm> p_elements, final boolean p_parallel )
+    {
+        final long[] l_keys;
+        try
+        {
+            l_keys = p_elements.stream().mapToLong( i -> CDateTimeCommon.epochnanoseconds( i.raw() ) ).toArray();
+        }
+        catch ( final ArithmeticException l_exception )
+        {
+            // date-time objects out of the range of epoch nano-seconds are sorted with a comparator
+            return p_elements.stream().sorted( CSort::compare ).toArray( ITerm[]::new );
+        }
+
+        final long[] l_sorted = l_keys.clone();
+        if ( p_parallel )
+            Arrays.parallelSort( l_sorted );
+        else
+            Arrays.sort( l_sorted );
+
+        final ITerm[] l_result = new ITerm[l_keys.length];
+        final int[] l_fill = new int[l_keys.length];
+        for ( int i = 0; i < l_keys.length; i++ )
+        {
+            final int l_lowerbound = lowerbound( l_sorted, l_keys[i] );
+            l_result[l_lowerbound + l_fill[l_lowerbound]++] = p_elements.get( i );
+        }
+
+        return l_result;
+    }
+
+    /**
+     * returns the index of the first element, which is not less than the key
+     *
+     * @param p_sorted sorted array
+     * @param p_key key
+     * @return index
+     */
+    private static int lowerbound( @Nonnull final long[] p_sorted, final long p_key )
+    {
+        int l_low = 0;
+        int l_high = p_sorted.length;
+        while ( l_low < l_high )
+        {
+            final int l_middle = ( l_low + l_high ) >>> 1;
+            if ( p_sorted[l_middle] < p_key )
+                l_low = l_middle + 1;
+            else
+                l_high = l_middle;
+        }
+        return l_low;
+    }
+
+    /**
+     * compares two date-time terms on the time-line
+     *
+     * @param p_first first term
+     * @param p_second second term
+     * @return comparison result
+     */
+    private static int compare( @Nonnull final ITerm p_first, @Nonnull final ITerm p_second )
+    {
+        return COMPARATOR.compare( p_first.raw(), p_second.raw() );
+    }
+
+}
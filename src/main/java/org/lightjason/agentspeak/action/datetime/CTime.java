@@ -24,7 +24,6 @@
 package org.lightjason.agentspeak.action.datetime;
 
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 
 import javax.annotation.Nonnull;
@@ -62,10 +61,10 @@ public final class CTime extends IDateTime
     @Override
     protected boolean elements( @Nonnull final ZonedDateTime p_datetime, @Nonnull final List<ITerm> p_return )
     {
-        p_return.add( CRawTerm.of( p_datetime.getHour() ) );
-        p_return.add( CRawTerm.of( p_datetime.getMinute() ) );
-        p_return.add( CRawTerm.of( p_datetime.getSecond() ) );
-        p_return.add( CRawTerm.of( p_datetime.getNano() ) );
+        p_return.add( CFieldTerms.field( p_datetime.getHour() ) );
+        p_return.add( CFieldTerms.field( p_datetime.getMinute() ) );
+        p_return.add( CFieldTerms.field( p_datetime.getSecond() ) );
+        p_return.add( CFieldTerms.field( p_datetime.getNano() ) );
         return true;
     }
 
@@ -0,0 +1,412 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+
+/**
+ * hashed timing wheel of deadlines.
+ * The time-line is split into ticks of a fixed duration,
+ * each deadline is rounded up to its tick and stored within
+ * the slot of the tick as doubly-linked entry, so an entry
+ * never expires before its deadline and schedule, cancel
+ * and reschedule run in O(1), a tick call visits only the slots of the
+ * elapsed ticks and delivers the expired entries, deadlines
+ * more than one revolution ahead stay in their slot until
+ * their tick is reached, the current tick is read from the
+ * clock, so a simulated clock gives deterministic results
+ *
+ * @tparam T payload type
+ */
+public final class CTimerWheel<T>
+{
+    /**
+     * clock
+     */
+    private final IClock m_clock;
+    /**
+     * nano-seconds of a tick
+     */
+    private final long m_resolution;
+    /**
+     * slots with the head entry
+     */
+    private final CTimeout<T>[] m_slots;
+    /**
+     * slot mask
+     */
+    private final int m_mask;
+    /**
+     * last processed tick
+     */
+    private long m_tick;
+    /**
+     * number of pending entries
+     */
+    private int m_size;
+
+    /**
+     * ctor
+     *
+     * @param p_clock clock
+     * @param p_resolution duration of a tick
+     * @param p_slots number of slots, rounded up to a power of two
+     */
+    @SuppressWarnings( {"unchecked", "rawtypes"} )
+    public CTimerWheel( @Nonnull final IClock p_clock, @Nonnull final Duration p_resolution, @Nonnegative final int p_slots )
+    {
+        if ( p_resolution.isNegative() || p_resolution.isZero() )
+            throw new IllegalArgumentException( "resolution " + p_resolution + " must be positive" );
+        if ( p_slots < 1 || p_slots > 1 << 30 )
+            throw new IllegalArgumentException( "number of slots " + p_slots + " out of range" );
+
+        m_clock = p_clock;
+        m_resolution = p_resolution.toNanos();
+        m_slots = new CTimeout[Integer.highestOneBit( p_slots ) == p_slots ? p_slots : Integer.highestOneBit( p_slots ) << 1];
+        m_mask = m_slots.length - 1;
+        m_tick = this.tick( m_clock.now() );
+    }
+
+    /**
+     * schedules a payload
+     *
+     * @param p_deadline deadline
+     * @param p_payload payload
+     * @return timeout handle
+     * @throws ArithmeticException if the deadline is out of the epoch nano-seconds range
+     */
+    @Nonnull
+    public synchronized CTimeout<T> schedule( @Nonnull final ZonedDateTime p_deadline, @Nonnull final T p_payload )
+    {
+        final CTimeout<T> l_timeout = new CTimeout<>( this, p_payload );
+        this.link( l_timeout, p_deadline );
+        return l_timeout;
+    }
+
+    /**
+     * cancels a pending timeout
+     *
+     * @param p_timeout timeout handle
+     * @return true if the timeout was pending
+     */
+    public synchronized boolean cancel( @Nonnull final CTimeout<T> p_timeout )
+    {
+        if ( p_timeout.m_wheel != this || p_timeout.m_slot < 0 )
+            return false;
+
+        this.unlink( p_timeout );
+        return true;
+    }
+
+    /**
+     * moves a pending timeout to another deadline
+     *
+     * @param p_timeout timeout handle
+     * @param p_deadline new deadline
+     * @return true if the timeout was pending
+     * @throws ArithmeticException if the deadline is out of the epoch nano-seconds range
+     */
+    public synchronized boolean reschedule( @Nonnull final CTimeout<T> p_timeout, @Nonnull final ZonedDateTime p_deadline )
+    {
+        if ( p_timeout.m_wheel != this || p_timeout.m_slot < 0 )
+            return false;
+
+        final long l_tick = this.deadline( p_deadline );
+        this.unlink( p_timeout );
+        this.link( p_timeout, p_deadline, l_tick );
+        return true;
+    }
+
+    /**
+     * advances the wheel to the current tick of the clock
+     * and delivers all expired payloads, the payloads are
+     * delivered outside of the wheel lock in the order of
+     * the visited slots, if the clock moves backwards
+     * nothing is delivered until the last tick is passed
+     *
+     * @param p_consumer payload consumer
+     * @return number of delivered payloads
+     */
+    @Nonnegative
+    public int tick( @Nonnull final Consumer<T> p_consumer )
+    {
+        final List<T> l_expired = this.expire();
+        l_expired.forEach( p_consumer );
+        return l_expired.size();
+    }
+
+    /**
+     * returns the number of pending timeouts
+     *
+     * @return number of timeouts
+     */
+    @Nonnegative
+    public synchronized int size()
+    {
+        return m_size;
+    }
+
+    /**
+     * returns the duration of a tick
+     *
+     * @return duration
+     */
+    @Nonnull
+    public Duration resolution()
+    {
+        return Duration.ofNanos( m_resolution );
+    }
+
+    /**
+     * removes all expired entries
+     *
+     * @return expired payloads
+     */
+    @Nonnull
+    private synchronized List<T> expire()
+    {
+        final long l_target = this.tick( m_clock.now() );
+        if ( l_target <= m_tick )
+            return new ArrayList<>( 0 );
+
+        final List<T> l_expired = new ArrayList<>();
+        final long l_ticks = Math.min( l_target - m_tick, m_slots.length );
+        for ( long i = 1; i <= l_ticks; i++ )
+        {
+            CTimeout<T> l_timeout = m_slots[(int) ( m_tick + i ) & m_mask];
+            while ( l_timeout != null )
+            {
+                final CTimeout<T> l_next = l_timeout.m_next;
+                if ( l_timeout.m_tick <= l_target )
+                {
+                    this.unlink( l_timeout );
+                    l_expired.add( l_timeout.m_payload );
+                }
+                l_timeout = l_next;
+            }
+        }
+
+        m_tick = l_target;
+        return l_expired;
+    }
+
+    /**
+     * links a timeout into its slot
+     *
+     * @param p_timeout timeout
+     * @param p_deadline deadline
+     */
+    private void link( @Nonnull final CTimeout<T> p_timeout, @Nonnull final ZonedDateTime p_deadline )
+    {
+        this.link( p_timeout, p_deadline, this.deadline( p_deadline ) );
+    }
+
+    /**
+     * links a timeout into its slot, deadlines of
+     * processed ticks are stored in the next slot
+     *
+     * @param p_timeout timeout
+     * @param p_deadline deadline
+     * @param p_tick tick of the deadline
+     */
+    private void link( @Nonnull final CTimeout<T> p_timeout, @Nonnull final ZonedDateTime p_deadline, final long p_tick )
+    {
+        final int l_slot = (int) Math.max( p_tick, m_tick + 1 ) & m_mask;
+
+        p_timeout.m_deadline = p_deadline;
+        p_timeout.m_tick = p_tick;
+        p_timeout.m_slot = l_slot;
+        p_timeout.m_previous = null;
+        p_timeout.m_next = m_slots[l_slot];
+        if ( m_slots[l_slot] != null )
+            m_slots[l_slot].m_previous = p_timeout;
+        m_slots[l_slot] = p_timeout;
+        m_size++;
+    }
+
+    /**
+     * unlinks a timeout from its slot
+     *
+     * @param p_timeout timeout
+     */
+    private void unlink( @Nonnull final CTimeout<T> p_timeout )
+    {
+        if ( p_timeout.m_previous == null )
+            m_slots[p_timeout.m_slot] = p_timeout.m_next;
+        else
+            p_timeout.m_previous.m_next = p_timeout.m_next;
+        if ( p_timeout.m_next != null )
+            p_timeout.m_next.m_previous = p_timeout.m_previous;
+
+        p_timeout.m_previous = null;
+        p_timeout.m_next = null;
+        p_timeout.m_slot = -1;
+        m_size--;
+    }
+
+    /**
+     * returns the tick of a date-time, the current
+     * tick contains the date-time, so it is rounded down
+     *
+     * @param p_datetime date-time
+     * @return tick
+     */
+    private long tick( @Nonnull final ZonedDateTime p_datetime )
+    {
+        return Math.floorDiv( CDateTimeCommon.epochnanoseconds( p_datetime ), m_resolution );
+    }
+
+    /**
+     * returns the tick of a deadline, the deadline is
+     * rounded up, so a timeout never expires before
+     * its deadline
+     *
+     * @param p_deadline deadline
+     * @return tick
+     */
+    private long deadline( @Nonnull final ZonedDateTime p_deadline )
+    {
+        final long l_nanoseconds = CDateTimeCommon.epochnanoseconds( p_deadline );
+        return Math.floorDiv( l_nanoseconds, m_resolution ) + ( Math.floorMod( l_nanoseconds, m_resolution ) == 0 ? 0 : 1 );
+    }
+
+
+    /**
+     * timeout handle, the handle is pending
+     * until it is expired or cancelled
+     *
+     * @tparam T payload type
+     */
+    public static final class CTimeout<T>
+    {
+        /**
+         * wheel
+         */
+        private final CTimerWheel<T> m_wheel;
+        /**
+         * payload
+         */
+        private final T m_payload;
+        /**
+         * deadline
+         */
+        private volatile ZonedDateTime m_deadline;
+        /**
+         * tick of the deadline
+         */
+        private long m_tick;
+        /**
+         * slot index or -1 if not pending
+         */
+        private volatile int m_slot = -1;
+        /**
+         * previous entry of the slot
+         */
+        private CTimeout<T> m_previous;
+        /**
+         * next entry of the slot
+         */
+        private CTimeout<T> m_next;
+
+        /**
+         * ctor
+         *
+         * @param p_wheel wheel
+         * @param p_payload payload
+         */
+        private CTimeout( @Nonnull final CTimerWheel<T> p_wheel, @Nonnull final T p_payload )
+        {
+            m_wheel = p_wheel;
+            m_payload = p_payload;
+        }
+
+        /**
+         * returns the deadline
+         *
+         * @return deadline
+         */
+        @Nonnull
+        public ZonedDateTime deadline()
+        {
+            return m_deadline;
+        }
+
+        /**
+         * returns the payload
+         *
+         * @return payload
+         */
+        @Nonnull
+        public T payload()
+        {
+            return m_payload;
+        }
+
+        /**
+         * returns the pending state
+         *
+         * @return true if the timeout is not expired or cancelled
+         */
+        public boolean pending()
+        {
+            return m_slot >= 0;
+        }
+
+        /**
+         * cancels the timeout
+         *
+         * @return true if the timeout was pending
+         */
+        public boolean cancel()
+        {
+            return m_wheel.cancel( this );
+        }
+
+        /**
+         * moves the timeout to another deadline
+         *
+         * @param p_deadline new deadline
+         * @return true if the timeout was pending
+         * @throws ArithmeticException if the deadline is out of the epoch nano-seconds range
+         */
+        public boolean reschedule( @Nonnull final ZonedDateTime p_deadline )
+        {
+            return m_wheel.reschedule( this, p_deadline );
+        }
+
+        @Override
+        public String toString()
+        {
+            return "timeout " + m_deadline + ( this.pending() ? "" : " (done)" );
+        }
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * returns the epoch values of date-time objects.
+ * The optional first argument is the unit (seconds,
+ * milliseconds, nanoseconds, default milliseconds),
+ * all other arguments are date-time objects, for
+ * each date-time object the epoch value is returned,
+ * fractions of the unit are rounded down, the action
+ * fails if the value is out of the long range
+ *
+ * {@code [E1|E2] = .datetime/toepoch( DateTime1, DateTime2 );}
+ * {@code E = .datetime/toepoch( "seconds", DateTime );}
+ */
+public final class CToEpoch extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2590433383826493434L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CToEpoch.class, "datetime" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final EEpochUnit l_option = !l_arguments.isEmpty() && CCommon.isssignableto( l_arguments.get( 0 ), String.class )
+                                    ? EEpochUnit.of( l_arguments.get( 0 ).raw() )
+                                    : null;
+        final EEpochUnit l_unit = l_option == null ? EEpochUnit.MILLISECONDS : l_option;
+        if ( l_option == null && !l_arguments.isEmpty() && CCommon.isssignableto( l_arguments.get( 0 ), String.class ) )
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( CToEpoch.class, "unknownunit", l_arguments.get( 0 ).<String>raw() )
+            );
+
+        try
+        {
+            // values are boxed once at the term boundary
+            final long[] l_values = CDateTimeCommon.stream( l_arguments.subList( l_option == null ? 0 : 1, l_arguments.size() ), p_parallel )
+                                                   .mapToLong( i -> l_unit.value( i.<Object>raw() ) )
+                                                   .toArray();
+
+            for ( final long i : l_values )
+                p_return.add( CRawTerm.of( i ) );
+        }
+        catch ( final ArithmeticException l_exception )
+        {
+            throw new CExecutionIllegealArgumentException( p_context, l_exception );
+        }
+
+        return Stream.empty();
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * converts date-time objects to other zones.
+ * The leading string arguments are the target zones
+ * (empty or "current" for the system-default zone),
+ * all other arguments are zoned or compact date-time
+ * objects or epoch milliseconds, each date-time object
+ * is converted to each zone with the same instant, the
+ * offsets are read from the cached transition table of
+ * the zone, the results are ordered by date-time object and zone, compact
+ * date-time objects are converted without zone rules and
+ * returned as compact date-time objects, epoch milliseconds
+ * are returned as zoned date-time objects
+ *
+ * {@code [O1|O2] = .datetime/tozone( "UTC", DateTime1, DateTime2 );}
+ * {@code [Berlin|Tokyo] = .datetime/tozone( "Europe/Berlin", "Asia/Tokyo", DateTime );}
+ */
+public final class CToZone extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2417768906418453394L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CToZone.class, "datetime" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+
+        try
+        {
+            final ZoneId[] l_zones = l_arguments.stream()
+                                                .takeWhile( i -> CCommon.isssignableto( i, String.class ) )
+                                                .map( i -> CZones.of( i.raw() ) )
+                                                .toArray( ZoneId[]::new );
+            if ( l_zones.length == 0
+                 || l_zones.length == l_arguments.size()
+                 || !l_arguments.stream().skip( l_zones.length ).allMatch( i -> CDateTimeCommon.isdatetime( i.raw() ) ) )
+                throw new CExecutionIllegealArgumentException(
+                    p_context,
+                    org.lightjason.agentspeak.common.CCommon.languagestring( CToZone.class, "argumenterror" )
+                );
+
+            final CZoneTransitions[] l_transitions = Stream.of( l_zones ).map( CZoneTransitions::of ).toArray( CZoneTransitions[]::new );
+            final Stream<Object> l_datetimes = CDateTimeCommon.stream( l_arguments.subList( l_zones.length, l_arguments.size() ), p_parallel )
+                                                              .map( ITerm::raw );
+
+            ( l_transitions.length == 1
+              ? l_datetimes.map( i -> convert( i, l_transitions[0] ) )
+              : l_datetimes.flatMap( i -> Stream.of( l_transitions ).map( j -> convert( i, j ) ) )
+            ).map( CRawTerm::of )
+             .forEachOrdered( p_return::add );
+        }
+        catch ( final DateTimeException | ArithmeticException l_exception )
+        {
+            throw new CExecutionIllegealArgumentException( p_context, l_exception );
+        }
+
+        return Stream.empty();
+    }
+
+    /**
+     * converts a date-time object, the offset
+     * is read from the transition table of the zone
+     *
+     * @param p_datetime date-time object
+     * @param p_transitions transition table of the target zone
+     * @return date-time object
+     */
+    @Nonnull
+    private static Object convert( @Nonnull final Object p_datetime, @Nonnull final CZoneTransitions p_transitions )
+    {
+        if ( p_datetime instanceof CCompactDateTime )
+            return CCompactDateTime.of( ( (CCompactDateTime) p_datetime ).epochnanoseconds(), p_transitions.zone() );
+
+        final long l_second = CDateTimeCommon.epochsecond( p_datetime );
+        final ZoneOffset l_offset = p_transitions.offset( l_second );
+        return ZonedDateTime.ofStrict(
+            LocalDateTime.ofEpochSecond( l_second, CDateTimeCommon.nano( p_datetime ), l_offset ),
+            l_offset,
+            p_transitions.zone()
+        );
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * checks if date-time objects are within a range.
+ * The first argument is the start, the second the end
+ * of the range, both inclusive, all other arguments
+ * are zoned or compact date-time objects or epoch
+ * milliseconds, the comparison is done on epoch seconds
+ * and nano-seconds and the action returns a boolean
+ * value for each date-time object, the action fails on
+ * arguments which are not date-time objects
+ *
+ * {@code [W1|W2] = .datetime/within( Start, End, DateTime1, DateTime2 );}
+ */
+public final class CWithin extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 3066710451233316412L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CWithin.class, "datetime" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 3;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        if ( l_arguments.size() < 2 || !l_arguments.stream().allMatch( i -> CDateTimeCommon.isdatetime( i.raw() ) ) )
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( CWithin.class, "argumenterror" )
+            );
+
+        final long l_startsecond = CDateTimeCommon.epochsecond( l_arguments.get( 0 ).raw() );
+        final int l_startnano = CDateTimeCommon.nano( l_arguments.get( 0 ).raw() );
+        final long l_endsecond = CDateTimeCommon.epochsecond( l_arguments.get( 1 ).raw() );
+        final int l_endnano = CDateTimeCommon.nano( l_arguments.get( 1 ).raw() );
+
+        CDateTimeCommon.range( l_arguments.size() - 2, p_parallel )
+                       .mapToObj( i ->
+                       {
+                           final Object l_datetime = l_arguments.get( i + 2 ).raw();
+                           final long l_second = CDateTimeCommon.epochsecond( l_datetime );
+                           final int l_nano = CDateTimeCommon.nano( l_datetime );
+
+                           return CDateTimeCommon.compare( l_startsecond, l_startnano, l_second, l_nano ) <= 0
+                                  && CDateTimeCommon.compare( l_second, l_nano, l_endsecond, l_endnano ) <= 0;
+                       } )
+                       .map( CRawTerm::of )
+                       .forEachOrdered( p_return::add );
+
+        return Stream.empty();
+    }
+
+}
@@ -23,13 +23,9 @@
 
 package org.lightjason.agentspeak.action.datetime;
 
-import org.joda.time.Instant;
-import org.joda.time.Years;
 import org.lightjason.agentspeak.common.IPath;
 
 import javax.annotation.Nonnull;
-import java.util.List;
-import java.util.stream.Stream;
 
 
 
@@ -61,14 +57,10 @@ public final class CYearsBetween extends IBetween
         return NAME;
     }
 
-    @Nonnull
     @Override
-    protected Stream<?> apply( @Nonnull final Stream<List<Instant>> p_datetime )
+    protected long apply( final long p_start, final long p_end )
     {
-        return p_datetime
-            .map( i -> Years.yearsBetween( i.get( 0 ), i.get( 1 ) ) )
-            .mapToDouble( Years::getYears )
-            .boxed();
+        return years( p_start, p_end );
     }
 
 }
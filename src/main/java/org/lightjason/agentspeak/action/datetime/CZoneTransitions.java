@@ -0,0 +1,183 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import javax.annotation.Nonnull;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * immutable offset-transition table of a zone.
+ * The transitions of the zone rules are expanded
+ * up to the year 2100 into an array of epoch seconds
+ * and an array of offsets, the time-line is split into
+ * windows of 2^24 seconds (about 194 days) with the index
+ * of the first transition of each window, so the offset
+ * of an instant is found with one array access and a scan
+ * over the few transitions of its window without allocation,
+ * instants after the table are passed to the zone rules,
+ * the tables are cached per zone
+ */
+public final class CZoneTransitions
+{
+    /**
+     * default number of cached zones
+     */
+    private static final int CACHESIZE = 256;
+    /**
+     * cache of the transition tables
+     */
+    private static final CCache<ZoneId, CZoneTransitions> CACHE = new CCache<>( "zonetransitions", CACHESIZE );
+    /**
+     * end of the table (2100-01-01T00:00Z)
+     */
+    private static final long END = LocalDateTime.of( 2100, 1, 1, 0, 0 ).toEpochSecond( ZoneOffset.UTC );
+    /**
+     * bit shift of the window size
+     */
+    private static final int WINDOWSHIFT = 24;
+    /**
+     * zone
+     */
+    private final ZoneId m_zone;
+    /**
+     * zone rules
+     */
+    private final ZoneRules m_rules;
+    /**
+     * epoch seconds of the transitions
+     */
+    private final long[] m_transitions;
+    /**
+     * offsets before the first and after each transition
+     */
+    private final ZoneOffset[] m_offsets;
+    /**
+     * epoch seconds of the first window
+     */
+    private final long m_start;
+    /**
+     * index of the first transition of each window
+     */
+    private final int[] m_windows;
+
+    /**
+     * ctor
+     *
+     * @param p_zone zone
+     */
+    private CZoneTransitions( @Nonnull final ZoneId p_zone )
+    {
+        m_zone = p_zone;
+        m_rules = p_zone.getRules();
+
+        final List<ZoneOffsetTransition> l_transitions = new ArrayList<>();
+        for ( ZoneOffsetTransition i = m_rules.nextTransition( Instant.MIN ); i != null && i.toEpochSecond() < END;
+              i = m_rules.nextTransition( i.getInstant() ) )
+            l_transitions.add( i );
+
+        m_transitions = l_transitions.stream().mapToLong( ZoneOffsetTransition::toEpochSecond ).toArray();
+        m_offsets = new ZoneOffset[l_transitions.size() + 1];
+        m_offsets[0] = l_transitions.isEmpty() ? m_rules.getOffset( Instant.EPOCH ) : l_transitions.get( 0 ).getOffsetBefore();
+        for ( int i = 0; i < l_transitions.size(); i++ )
+            m_offsets[i + 1] = l_transitions.get( i ).getOffsetAfter();
+
+        m_start = m_transitions.length == 0 ? END : m_transitions[0];
+        m_windows = new int[(int) ( ( END - m_start ) >>> WINDOWSHIFT ) + 1];
+        for ( int i = 0, j = 0; i < m_windows.length; i++ )
+        {
+            while ( j < m_transitions.length && m_transitions[j] < m_start + ( (long) i << WINDOWSHIFT ) )
+                j++;
+            m_windows[i] = j;
+        }
+    }
+
+    /**
+     * returns the cached transition table of a zone
+     *
+     * @param p_zone zone
+     * @return transition table
+     */
+    @Nonnull
+    public static CZoneTransitions of( @Nonnull final ZoneId p_zone )
+    {
+        return CACHE.get( p_zone, CZoneTransitions::new );
+    }
+
+    /**
+     * returns the transition table cache
+     *
+     * @return cache
+     */
+    @Nonnull
+    public static CCache<ZoneId, CZoneTransitions> cache()
+    {
+        return CACHE;
+    }
+
+    /**
+     * returns the zone
+     *
+     * @return zone
+     */
+    @Nonnull
+    public ZoneId zone()
+    {
+        return m_zone;
+    }
+
+    /**
+     * returns the offset of an instant
+     *
+     * @param p_epochsecond epoch seconds of the instant
+     * @return offset
+     */
+    @Nonnull
+    public ZoneOffset offset( final long p_epochsecond )
+    {
+        if ( p_epochsecond >= END )
+            return m_rules.getOffset( Instant.ofEpochSecond( p_epochsecond ) );
+        if ( p_epochsecond < m_start )
+            return m_offsets[0];
+
+        int l_index = m_windows[(int) ( ( p_epochsecond - m_start ) >>> WINDOWSHIFT )];
+        while ( l_index < m_transitions.length && m_transitions[l_index] <= p_epochsecond )
+            l_index++;
+        return m_offsets[l_index];
+    }
+
+    @Override
+    public String toString()
+    {
+        return m_zone + " (" + m_transitions.length + " transitions)";
+    }
+
+}
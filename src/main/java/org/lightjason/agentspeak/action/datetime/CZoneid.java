@@ -65,4 +65,11 @@ public final class CZoneid extends IDateTime
         p_return.add( CRawTerm.of( p_datetime.getZone().getId() ) );
         return true;
     }
+
+    @Override
+    protected boolean elements( @Nonnull final CCompactDateTime p_datetime, @Nonnull final List<ITerm> p_return )
+    {
+        p_return.add( CRawTerm.of( p_datetime.zone().getId() ) );
+        return true;
+    }
 }
@@ -0,0 +1,159 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+
+/**
+ * shared and thread-safe resolution of zone-id strings.
+ * The raw zone string is mapped to the zone-id, so trimming
+ * and rule lookup are done once per distinct string, an empty
+ * string and "current" are mapped to the system-default zone,
+ * zones can be interned to a jvm-local index, so a zone can be
+ * referenced by an int value
+ */
+public final class CZones
+{
+    /**
+     * default number of cached zone strings
+     */
+    private static final int CACHESIZE = 256;
+    /**
+     * cache of zone strings
+     */
+    private static final CCache<String, ZoneId> CACHE = new CCache<>( "zone", CACHESIZE );
+    /**
+     * system-default zone
+     */
+    private static final ZoneId SYSTEMDEFAULT = ZoneId.systemDefault();
+    /**
+     * interned zones
+     */
+    private static final List<ZoneId> ZONES = new CopyOnWriteArrayList<>();
+    /**
+     * index of the interned zones
+     */
+    private static final Map<ZoneId, Integer> INDEX = new ConcurrentHashMap<>();
+
+    /**
+     * ctor
+     */
+    private CZones()
+    {
+    }
+
+    /**
+     * resolves a zone string
+     *
+     * @param p_zone zone string, empty or "current" for the system-default zone
+     * @return zone-id
+     * @throws java.time.DateTimeException on an unknown zone
+     */
+    @Nonnull
+    public static ZoneId of( @Nonnull final String p_zone )
+    {
+        return CACHE.get( p_zone, CZones::resolve );
+    }
+
+    /**
+     * returns the cached system-default zone
+     *
+     * @return zone-id
+     */
+    @Nonnull
+    public static ZoneId systemdefault()
+    {
+        return SYSTEMDEFAULT;
+    }
+
+    /**
+     * returns the interned index of a zone
+     *
+     * @param p_zone zone
+     * @return index
+     */
+    @Nonnegative
+    public static int index( @Nonnull final ZoneId p_zone )
+    {
+        return INDEX.computeIfAbsent( p_zone, CZones::intern );
+    }
+
+    /**
+     * returns the zone of an interned index
+     *
+     * @param p_index index
+     * @return zone
+     */
+    @Nonnull
+    public static ZoneId zone( @Nonnegative final int p_index )
+    {
+        return ZONES.get( p_index );
+    }
+
+    /**
+     * returns the zone cache
+     *
+     * @return cache
+     */
+    @Nonnull
+    public static CCache<String, ZoneId> cache()
+    {
+        return CACHE;
+    }
+
+    /**
+     * adds a zone to the interned zones
+     *
+     * @param p_zone zone
+     * @return index
+     */
+    private static synchronized int intern( @Nonnull final ZoneId p_zone )
+    {
+        ZONES.add( p_zone );
+        return ZONES.size() - 1;
+    }
+
+    /**
+     * normalizes and resolves a zone string
+     *
+     * @param p_zone zone string
+     * @return zone-id
+     */
+    @Nonnull
+    private static ZoneId resolve( @Nonnull final String p_zone )
+    {
+        final String l_zone = p_zone.trim();
+        return l_zone.isEmpty() || "current".equalsIgnoreCase( l_zone )
+               ? SYSTEMDEFAULT
+               : ZoneId.of( l_zone );
+    }
+
+}
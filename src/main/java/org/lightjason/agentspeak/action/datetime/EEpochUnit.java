@@ -0,0 +1,158 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Locale;
+
+
+/**
+ * units of epoch values, the conversion
+ * is done on primitive values
+ */
+public enum EEpochUnit
+{
+    SECONDS( 1000000000L ),
+    MILLISECONDS( 1000000L ),
+    NANOSECONDS( 1L );
+
+    /**
+     * nano-seconds of a second
+     */
+    private static final long NANOSECONDSPERSECOND = 1000000000L;
+    /**
+     * nano-seconds of the unit
+     */
+    private final long m_nanoseconds;
+
+    /**
+     * ctor
+     *
+     * @param p_nanoseconds nano-seconds of the unit
+     */
+    EEpochUnit( final long p_nanoseconds )
+    {
+        m_nanoseconds = p_nanoseconds;
+    }
+
+    /**
+     * converts an epoch value to epoch nano-seconds
+     *
+     * @param p_value epoch value
+     * @return epoch nano-seconds
+     * @throws ArithmeticException on overflow
+     */
+    public final long epochnanoseconds( final long p_value )
+    {
+        return Math.multiplyExact( p_value, m_nanoseconds );
+    }
+
+    /**
+     * converts an epoch value to a date-time
+     *
+     * @param p_value epoch value
+     * @param p_zone zone
+     * @return date-time
+     */
+    @Nonnull
+    public final ZonedDateTime datetime( final long p_value, @Nonnull final ZoneId p_zone )
+    {
+        final long l_units = NANOSECONDSPERSECOND / m_nanoseconds;
+        return ZonedDateTime.ofInstant(
+            Instant.ofEpochSecond( Math.floorDiv( p_value, l_units ), Math.floorMod( p_value, l_units ) * m_nanoseconds ),
+            p_zone
+        );
+    }
+
+    /**
+     * converts an epoch second and nano-of-second to an
+     * epoch value, fractions of the unit are rounded down
+     *
+     * @param p_epochsecond epoch second
+     * @param p_nano nano-of-second
+     * @return epoch value
+     * @throws ArithmeticException on overflow
+     */
+    public final long value( final long p_epochsecond, final int p_nano )
+    {
+        return Math.addExact( Math.multiplyExact( p_epochsecond, NANOSECONDSPERSECOND / m_nanoseconds ), p_nano / m_nanoseconds );
+    }
+
+    /**
+     * converts a date-time object to an epoch value
+     *
+     * @param p_datetime zoned or compact date-time or epoch milliseconds
+     * @return epoch value
+     * @throws ArithmeticException on overflow
+     */
+    public final long value( @Nonnull final Object p_datetime )
+    {
+        if ( p_datetime instanceof CCompactDateTime )
+            return this.value( ( (CCompactDateTime) p_datetime ).epochsecond(), ( (CCompactDateTime) p_datetime ).nano() );
+
+        if ( p_datetime instanceof Number )
+        {
+            final long l_milliseconds = ( (Number) p_datetime ).longValue();
+            return this.value( Math.floorDiv( l_milliseconds, 1000 ), (int) ( Math.floorMod( l_milliseconds, 1000 ) * MILLISECONDS.m_nanoseconds ) );
+        }
+
+        return this.value( ( (ZonedDateTime) p_datetime ).toEpochSecond(), ( (ZonedDateTime) p_datetime ).getNano() );
+    }
+
+    /**
+     * returns the unit of a name
+     *
+     * @param p_name name
+     * @return unit or null if the name is not a unit
+     */
+    @Nullable
+    public static EEpochUnit of( @Nonnull final String p_name )
+    {
+        switch ( p_name.trim().toLowerCase( Locale.ROOT ) )
+        {
+            case "s":
+            case "second":
+            case "seconds":
+                return SECONDS;
+
+            case "ms":
+            case "millisecond":
+            case "milliseconds":
+                return MILLISECONDS;
+
+            case "ns":
+            case "nanosecond":
+            case "nanoseconds":
+                return NANOSECONDS;
+
+            default:
+                return null;
+        }
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import java.util.Map;
+
+
+/**
+ * JMX interface of the action metrics,
+ * latencies are in nano-seconds
+ */
+public interface IActionMetricsMXBean
+{
+
+    /**
+     * returns the recording flag
+     *
+     * @return flag that recording is enabled
+     */
+    boolean isEnabled();
+
+    /**
+     * enables or disables recording
+     *
+     * @param p_enabled recording flag
+     */
+    void setEnabled( final boolean p_enabled );
+
+    /**
+     * returns the number of invocations
+     *
+     * @return map with action name and invocations
+     */
+    Map<String, Long> getInvocations();
+
+    /**
+     * returns the number of processed elements
+     *
+     * @return map with action name and elements
+     */
+    Map<String, Long> getElements();
+
+    /**
+     * returns the number of errors
+     *
+     * @return map with action name and errors
+     */
+    Map<String, Long> getErrors();
+
+    /**
+     * returns the mean latency
+     *
+     * @return map with action name and mean latency
+     */
+    Map<String, Double> getMeanLatency();
+
+    /**
+     * returns an upper bound of the 99% latency quantile
+     *
+     * @return map with action name and latency
+     */
+    Map<String, Long> getP99Latency();
+
+    /**
+     * returns an upper bound of a latency quantile
+     *
+     * @param p_name action name
+     * @param p_quantile quantile in [0, 1]
+     * @return latency
+     */
+    long quantile( final String p_name, final double p_quantile );
+
+    /**
+     * resets the metrics of all actions
+     */
+    void reset();
+
+}
@@ -23,11 +23,8 @@
 
 package org.lightjason.agentspeak.action.datetime;
 
-import com.codepoetics.protonpack.StreamUtils;
-import org.joda.time.DateTime;
-import org.joda.time.DateTimeZone;
-import org.joda.time.Instant;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
@@ -36,22 +33,57 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.util.List;
-import java.util.TimeZone;
+import java.util.Locale;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
 /**
  * abstract class to calculate difference
- * between date-time elements
+ * between date-time elements.
+ * The differences are calculated on primitive
+ * epoch values and returned as long values, if the
+ * first argument is the string "integer" the values
+ * are returned as integer values, "long" can be used
+ * to set the default explicitly, numbers are
+ * used as epoch milliseconds
+ *
+ * @note all calculations are done on the UTC
+ * time-line with millisecond precision
  */
 public abstract class IBetween extends IBaseAction
 {
+    /**
+     * milliseconds of a second
+     */
+    protected static final long MILLISECONDSPERSECOND = 1000L;
+    /**
+     * milliseconds of a minute
+     */
+    protected static final long MILLISECONDSPERMINUTE = 60L * MILLISECONDSPERSECOND;
+    /**
+     * milliseconds of an hour
+     */
+    protected static final long MILLISECONDSPERHOUR = 60L * MILLISECONDSPERMINUTE;
+    /**
+     * milliseconds of a day
+     */
+    protected static final long MILLISECONDSPERDAY = 24L * MILLISECONDSPERHOUR;
     /**
      * serial id
      */
     private static final long serialVersionUID = 2806678071531558364L;
+    /**
+     * nano-seconds of a millisecond
+     */
+    private static final int NANOSECONDSPERMILLISECOND = 1000000;
+    /**
+     * millisecond offset of the 29th february within a leap year
+     */
+    private static final long FEBRUARY29 = 59L * MILLISECONDSPERDAY;
 
     @Nonnegative
     @Override
@@ -66,29 +98,166 @@ public abstract class IBetween extends IBaseAction
                                                  @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        this.apply(
-            StreamUtils.windowed(
-                CCommon.flatten( p_argument )
-                       .map( ITerm::<ZonedDateTime>raw )
-                       .map( i -> new DateTime( i.toInstant().toEpochMilli(), DateTimeZone.forTimeZone( TimeZone.getTimeZone( i.getZone() ) ) ) )
-                       .map( Instant::new ),
-                2,
-                2
-            )
-        )
-            .map( CRawTerm::of )
-            .forEach( p_return::add );
+        final CActionEvent l_event = CActionEvent.start();
+        final int l_size = p_return.size();
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+
+        try
+        {
+            this.differences( p_context, l_arguments, p_parallel, p_return );
+        }
+        finally
+        {
+            l_event.finish( this, l_arguments.size(), p_return.size() - l_size, p_parallel );
+        }
 
         return Stream.empty();
     }
 
+    /**
+     * calculates the differences of the date-time pairs
+     *
+     * @param p_context execution context
+     * @param p_arguments flatten arguments
+     * @param p_parallel parallel execution
+     * @param p_return return arguments
+     */
+    private void differences( @Nonnull final IContext p_context, @Nonnull final List<ITerm> p_arguments, final boolean p_parallel,
+                              @Nonnull final List<ITerm> p_return )
+    {
+        final int l_offset = !p_arguments.isEmpty() && CCommon.isssignableto( p_arguments.get( 0 ), String.class ) ? 1 : 0;
+        final boolean l_integer = l_offset > 0 && integer( p_context, p_arguments.get( 0 ).raw() );
+
+        final long[] l_epoch = CDateTimeCommon.range( ( p_arguments.size() - l_offset ) / 2 * 2, p_parallel )
+                                              .mapToLong( i -> epochmilliseconds( p_arguments.get( l_offset + i ).<Object>raw() ) )
+                                              .toArray();
+
+        final long[] l_result = CDateTimeCommon.range( l_epoch.length / 2, p_parallel )
+                                               .mapToLong( i -> this.apply( l_epoch[2 * i], l_epoch[2 * i + 1] ) )
+                                               .toArray();
+
+        try
+        {
+            for ( final long i : l_result )
+                p_return.add( l_integer ? CRawTerm.of( Math.toIntExact( i ) ) : CRawTerm.of( i ) );
+        }
+        catch ( final ArithmeticException l_exception )
+        {
+            throw new CExecutionIllegealArgumentException( p_context, l_exception );
+        }
+    }
+
     /**
      * calculating method
      *
-     * @param p_datetime stream with list of date-time elements
-     * @return output stream
+     * @param p_start start point as epoch milliseconds
+     * @param p_end end point as epoch milliseconds
+     * @return difference
      */
-    @Nonnull
-    protected abstract Stream<?> apply( @Nonnull final Stream<List<Instant>> p_datetime );
+    protected abstract long apply( final long p_start, final long p_end );
+
+    /**
+     * reads the result type
+     *
+     * @param p_context execution context
+     * @param p_type type name
+     * @return integer result type
+     */
+    private static boolean integer( @Nonnull final IContext p_context, @Nonnull final String p_type )
+    {
+        switch ( p_type.trim().toLowerCase( Locale.ROOT ) )
+        {
+            case "int":
+            case "integer":
+                return true;
+
+            case "long":
+                return false;
+
+            default:
+                throw new CExecutionIllegealArgumentException(
+                    p_context,
+                    org.lightjason.agentspeak.common.CCommon.languagestring( IBetween.class, "unknownresulttype", p_type )
+                );
+        }
+    }
+
+    /**
+     * returns the epoch milliseconds of a date-time
+     * without creating an instant object
+     *
+     * @param p_datetime zoned or compact date-time or epoch milliseconds
+     * @return epoch milliseconds
+     */
+    protected static long epochmilliseconds( @Nonnull final Object p_datetime )
+    {
+        if ( p_datetime instanceof CCompactDateTime )
+            return Math.floorDiv( ( (CCompactDateTime) p_datetime ).epochnanoseconds(), NANOSECONDSPERMILLISECOND );
+
+        if ( p_datetime instanceof Number )
+            return ( (Number) p_datetime ).longValue();
+
+        final ZonedDateTime l_datetime = (ZonedDateTime) p_datetime;
+        return l_datetime.toEpochSecond() * MILLISECONDSPERSECOND + l_datetime.getNano() / NANOSECONDSPERMILLISECOND;
+    }
+
+    /**
+     * number of full months between two epoch values,
+     * a month is full if the day-of-month and the time
+     * of the end is reached, the day-of-month is clamped
+     * if the end is the last day of a shorter month
+     *
+     * @param p_start start epoch milliseconds
+     * @param p_end end epoch milliseconds
+     * @return number of months
+     */
+    protected static long months( final long p_start, final long p_end )
+    {
+        if ( p_end < p_start )
+            return -months( p_end, p_start );
+
+        final LocalDate l_start = LocalDate.ofEpochDay( Math.floorDiv( p_start, MILLISECONDSPERDAY ) );
+        final LocalDate l_end = LocalDate.ofEpochDay( Math.floorDiv( p_end, MILLISECONDSPERDAY ) );
+
+        final long l_months = ( l_end.getYear() - l_start.getYear() ) * 12L + l_end.getMonthValue() - l_start.getMonthValue();
+        final int l_startday = l_end.getDayOfMonth() == l_end.lengthOfMonth()
+                               ? Math.min( l_start.getDayOfMonth(), l_end.getDayOfMonth() )
+                               : l_start.getDayOfMonth();
+
+        return l_end.getDayOfMonth() < l_startday
+               || l_end.getDayOfMonth() == l_startday && Math.floorMod( p_end, MILLISECONDSPERDAY ) < Math.floorMod( p_start, MILLISECONDSPERDAY )
+               ? l_months - 1
+               : l_months;
+    }
+
+    /**
+     * number of full years between two epoch values,
+     * the 29th february is balanced on non-leap years
+     *
+     * @param p_start start epoch milliseconds
+     * @param p_end end epoch milliseconds
+     * @return number of years
+     */
+    protected static long years( final long p_start, final long p_end )
+    {
+        if ( p_end < p_start )
+            return -years( p_end, p_start );
+
+        final LocalDate l_start = LocalDate.ofEpochDay( Math.floorDiv( p_start, MILLISECONDSPERDAY ) );
+        final LocalDate l_end = LocalDate.ofEpochDay( Math.floorDiv( p_end, MILLISECONDSPERDAY ) );
+
+        long l_startremainder = ( l_start.getDayOfYear() - 1 ) * MILLISECONDSPERDAY + Math.floorMod( p_start, MILLISECONDSPERDAY );
+        long l_endremainder = ( l_end.getDayOfYear() - 1 ) * MILLISECONDSPERDAY + Math.floorMod( p_end, MILLISECONDSPERDAY );
+
+        // balance leap-year differences on the remainders
+        if ( l_startremainder >= FEBRUARY29 && l_start.isLeapYear() && !l_end.isLeapYear() )
+            l_startremainder -= MILLISECONDSPERDAY;
+        else if ( l_startremainder >= FEBRUARY29 && !l_start.isLeapYear() && l_endremainder >= FEBRUARY29 && l_end.isLeapYear() )
+            l_endremainder -= MILLISECONDSPERDAY;
+
+        return l_endremainder < l_startremainder
+               ? l_end.getYear() - l_start.getYear() - 1
+               : l_end.getYear() - l_start.getYear();
+    }
 
 }
@@ -0,0 +1,133 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * abstract class to compare date-time objects.
+ * The arguments are pairs of zoned or compact
+ * date-time objects or epoch milliseconds and
+ * each first element is compared with its second
+ * element, if the first argument is the string "pivot",
+ * the second argument is the pivot and each following
+ * date-time object is compared with the pivot, the
+ * comparison is done on epoch seconds and nano-seconds
+ * without any intermediate object and the action
+ * returns a boolean value for each comparison, the
+ * action fails on an odd number of arguments on pairs
+ * or on arguments which are not date-time objects
+ *
+ * {@code [B1|B2] = .datetime/before( DateTime1, DateTime2, DateTime3, DateTime4 );}
+ * {@code [B1|B2] = .datetime/before( "pivot", Now, Deadline1, Deadline2 );}
+ */
+public abstract class ICompare extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -1375418658961434137L;
+
+    @Nonnegative
+    @Override
+    public final int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public final Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                                 @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final boolean l_pivot = CCommon.isssignableto( l_arguments.get( 0 ), String.class )
+                                && "pivot".equalsIgnoreCase( l_arguments.get( 0 ).<String>raw().trim() );
+
+        if ( ( !l_pivot && l_arguments.size() % 2 != 0 )
+             || ( l_pivot && l_arguments.size() < 2 )
+             || !l_arguments.stream().skip( l_pivot ? 1 : 0 ).allMatch( i -> CDateTimeCommon.isdatetime( i.raw() ) ) )
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( ICompare.class, "argumenterror" )
+            );
+
+        if ( l_pivot )
+        {
+            final Object l_datetime = l_arguments.get( 1 ).raw();
+            final long l_second = CDateTimeCommon.epochsecond( l_datetime );
+            final int l_nano = CDateTimeCommon.nano( l_datetime );
+
+            CDateTimeCommon.range( l_arguments.size() - 2, p_parallel )
+                           .mapToObj( i -> this.apply( compare( l_arguments.get( i + 2 ).raw(), l_second, l_nano ) ) )
+                           .map( CRawTerm::of )
+                           .forEachOrdered( p_return::add );
+        }
+        else
+            CDateTimeCommon.range( l_arguments.size() / 2, p_parallel )
+                           .mapToObj( i -> this.apply(
+                               CDateTimeCommon.compare( l_arguments.get( 2 * i ).raw(), l_arguments.get( 2 * i + 1 ).raw() )
+                           ) )
+                           .map( CRawTerm::of )
+                           .forEachOrdered( p_return::add );
+
+        return Stream.empty();
+    }
+
+    /**
+     * maps the comparison result
+     *
+     * @param p_compare comparison result of the first and second date-time object
+     * @return boolean result
+     */
+    protected abstract boolean apply( final int p_compare );
+
+    /**
+     * compares a date-time object with the pivot
+     *
+     * @param p_datetime date-time object
+     * @param p_second epoch second of the pivot
+     * @param p_nano nano-of-second of the pivot
+     * @return comparison result
+     */
+    private static int compare( @Nonnull final Object p_datetime, final long p_second, final int p_nano )
+    {
+        return CDateTimeCommon.compare( CDateTimeCommon.epochsecond( p_datetime ), CDateTimeCommon.nano( p_datetime ), p_second, p_nano );
+    }
+
+}
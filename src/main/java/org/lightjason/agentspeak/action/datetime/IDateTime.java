@@ -34,12 +34,20 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import javax.annotation.Nonnull;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
 /**
- * abstract class for date-time access
+ * abstract class for date-time access.
+ * If the first argument is the string "compact", the
+ * date-time objects are passed in the compact
+ * representation to the action, the current date-time
+ * is read from a replaceable clock, numbers are epoch
+ * milliseconds within the system-default zone
  */
 public abstract class IDateTime extends IBaseAction
 {
@@ -47,22 +55,86 @@ public abstract class IDateTime extends IBaseAction
      * serial id
      */
     private static final long serialVersionUID = -5384242048535616689L;
+    /**
+     * default number of cached parsed date-time strings
+     */
+    private static final int PARSECACHESIZE = 1024;
+    /**
+     * shared cache of parsed date-time strings
+     */
+    private static final CCache<String, ZonedDateTime> PARSECACHE = new CCache<>( "parse", PARSECACHESIZE );
+    /**
+     * clock of the current date-time
+     */
+    private static final AtomicReference<IClock> CLOCK = new AtomicReference<>( IClock.SYSTEM );
 
     @Nonnull
     @Override
     public final Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
                                                  @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return )
     {
-        if ( !( p_argument.size() == 0 ? Stream.of( CRawTerm.of( "now" ) ) : CCommon.flatten( p_argument ) )
-            .allMatch( i -> this.getdatetime( p_context, i, p_return ) ) )
-            throw new CExecutionIllegealArgumentException(
-                p_context,
-                org.lightjason.agentspeak.common.CCommon.languagestring( IDateTime.class, "argumenterror" )
-            );
+        final CActionEvent l_event = CActionEvent.start();
+        final int l_size = p_return.size();
+        final List<ITerm> l_flatten = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final boolean l_compact = CDateTimeCommon.compact( l_flatten );
+        final List<ITerm> l_arguments = l_compact ? l_flatten.subList( 1, l_flatten.size() ) : l_flatten;
+
+        try
+        {
+            if ( l_arguments.isEmpty() )
+                this.getdatetime( p_context, CRawTerm.of( "now" ), l_compact, p_return );
+
+            else if ( CDateTimeCommon.parallel( l_arguments.size(), p_parallel ) )
+                l_arguments.parallelStream()
+                           .map( i -> this.getdatetime( p_context, i, l_compact ) )
+                           .collect( Collectors.toList() )
+                           .forEach( p_return::addAll );
+
+            else if ( !l_arguments.stream().allMatch( i -> this.getdatetime( p_context, i, l_compact, p_return ) ) )
+                throw argumenterror( p_context );
+        }
+        finally
+        {
+            l_event.finish( this, l_flatten.size(), p_return.size() - l_size, p_parallel );
+        }
 
         return Stream.empty();
     }
 
+    /**
+     * returns the shared cache of parsed date-time strings
+     *
+     * @return parse cache
+     */
+    @Nonnull
+    public static CCache<String, ZonedDateTime> parsecache()
+    {
+        return PARSECACHE;
+    }
+
+    /**
+     * returns the clock of the current date-time
+     *
+     * @return clock
+     */
+    @Nonnull
+    public static IClock clock()
+    {
+        return CLOCK.get();
+    }
+
+    /**
+     * sets the clock of the current date-time
+     *
+     * @param p_clock clock
+     * @return previous clock
+     */
+    @Nonnull
+    public static IClock clock( @Nonnull final IClock p_clock )
+    {
+        return CLOCK.getAndSet( p_clock );
+    }
+
     /**
      * transfers the date-time element to term elements
      *
@@ -72,31 +144,105 @@ public abstract class IDateTime extends IBaseAction
      */
     protected abstract boolean elements( @Nonnull final ZonedDateTime p_datetime, @Nonnull final List<ITerm> p_return );
 
+    /**
+     * transfers the compact date-time element to term elements,
+     * the compact date-time is converted to a zoned date-time,
+     * actions which do not need calendar fields can overwrite
+     * this method to avoid the conversion
+     *
+     * @param p_datetime compact date-time definition
+     * @param p_return return arguments
+     * @return successfull return
+     */
+    protected boolean elements( @Nonnull final CCompactDateTime p_datetime, @Nonnull final List<ITerm> p_return )
+    {
+        return this.elements( p_datetime.datetime(), p_return );
+    }
+
+    /**
+     * creates the date representation into
+     * an own list for a parallel execution
+     *
+     * @param p_context execution context
+     * @param p_value date value, empty or now returns the current date
+     * @param p_compact use compact date-time representation
+     * @return list with return arguments
+     */
+    @Nonnull
+    private List<ITerm> getdatetime( @Nonnull final IContext p_context, @Nonnull final ITerm p_value, final boolean p_compact )
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        if ( !this.getdatetime( p_context, p_value, p_compact, l_return ) )
+            throw argumenterror( p_context );
+        return l_return;
+    }
+
     /**
      * creates the date representation
      *
      * @param p_context execution context
      * @param p_value date value, empty or now returns the current date
+     * @param p_compact use compact date-time representation
      * @param p_return return arguments
      * @return successfull execution
      */
-    private boolean getdatetime( @Nonnull final IContext p_context, @Nonnull final ITerm p_value, @Nonnull final List<ITerm> p_return )
+    private boolean getdatetime( @Nonnull final IContext p_context, @Nonnull final ITerm p_value, final boolean p_compact,
+                                 @Nonnull final List<ITerm> p_return )
+    {
+        if ( CCommon.isssignableto( p_value, CCompactDateTime.class ) )
+            return this.elements( p_value.<CCompactDateTime>raw(), p_return );
+
+        final ZonedDateTime l_datetime = datetime( p_context, p_value );
+        if ( !p_compact )
+            return this.elements( l_datetime, p_return );
+
+        try
+        {
+            return this.elements( CCompactDateTime.of( l_datetime ), p_return );
+        }
+        catch ( final ArithmeticException l_exception )
+        {
+            throw new CExecutionIllegealArgumentException( p_context, l_exception );
+        }
+    }
+
+    /**
+     * creates the zoned date-time
+     *
+     * @param p_context execution context
+     * @param p_value date value, empty or now returns the current date
+     * @return date-time
+     */
+    @Nonnull
+    private static ZonedDateTime datetime( @Nonnull final IContext p_context, @Nonnull final ITerm p_value )
     {
-        if ( CCommon.isssignableto( p_value, ZonedDateTime.class ) )
-            return this.elements( p_value.raw(), p_return );
+        if ( CCommon.isssignableto( p_value, ZonedDateTime.class ) || CCommon.isssignableto( p_value, Number.class ) )
+            return CDateTimeCommon.datetime( p_value.raw() );
 
         try
         {
-            return this.elements(
-                ( p_value.<String>raw().isEmpty() ) || ( "now".equalsIgnoreCase( p_value.raw() ) )
-                ? ZonedDateTime.now()
-                : ZonedDateTime.parse( p_value.<String>raw() ),
-                p_return
-            );
+            return ( p_value.<String>raw().isEmpty() ) || ( "now".equalsIgnoreCase( p_value.raw() ) )
+                   ? CLOCK.get().now()
+                   : PARSECACHE.get( p_value.<String>raw(), CIsoParser::parse );
         }
         catch ( final DateTimeParseException l_excaption )
         {
             throw new CExecutionIllegealArgumentException( p_context, l_excaption );
         }
     }
+
+    /**
+     * creates the argument exception
+     *
+     * @param p_context execution context
+     * @return exception
+     */
+    @Nonnull
+    private static CExecutionIllegealArgumentException argumenterror( @Nonnull final IContext p_context )
+    {
+        return new CExecutionIllegealArgumentException(
+            p_context,
+            org.lightjason.agentspeak.common.CCommon.languagestring( IDateTime.class, "argumenterror" )
+        );
+    }
 }
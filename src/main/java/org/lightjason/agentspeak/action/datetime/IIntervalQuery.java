@@ -0,0 +1,127 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * abstract class to query an interval index.
+ * The first argument is the interval index, all
+ * other arguments are queries, each query is an
+ * interval object or a zoned or compact date-time
+ * object or epoch milliseconds, which is used as the
+ * instant [t, t + 1ns), the action returns for each
+ * query a list of the matching intervals ordered by start
+ */
+public abstract class IIntervalQuery extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -1853870209127622187L;
+
+    @Nonnegative
+    @Override
+    public final int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public final Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                                 @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final CIntervalTree l_index = l_arguments.get( 0 ).raw();
+        final List<ITerm> l_queries = l_arguments.subList( 1, l_arguments.size() );
+
+        try
+        {
+            CDateTimeCommon.stream( l_queries, p_parallel )
+                           .map( i -> this.query( l_index, i.raw() ) )
+                           .map( CRawTerm::of )
+                           .forEachOrdered( p_return::add );
+        }
+        catch ( final ArithmeticException l_exception )
+        {
+            throw new CExecutionIllegealArgumentException( p_context, l_exception );
+        }
+
+        return Stream.empty();
+    }
+
+    /**
+     * runs a single query
+     *
+     * @param p_index interval index
+     * @param p_query interval or date-time object
+     * @return matching intervals
+     */
+    @Nonnull
+    private List<CDateTimeInterval> query( @Nonnull final CIntervalTree p_index, @Nonnull final Object p_query )
+    {
+        return p_query instanceof CDateTimeInterval
+               ? this.apply( p_index, (CDateTimeInterval) p_query )
+               : this.apply( p_index, CDateTimeCommon.epochnanoseconds( p_query ) );
+    }
+
+    /**
+     * queries the index with an interval
+     *
+     * @param p_index interval index
+     * @param p_interval interval
+     * @return matching intervals
+     */
+    @Nonnull
+    protected abstract List<CDateTimeInterval> apply( @Nonnull final CIntervalTree p_index, @Nonnull final CDateTimeInterval p_interval );
+
+    /**
+     * queries the index with an instant
+     *
+     * @param p_index interval index
+     * @param p_epochnanoseconds epoch nano-seconds of the instant
+     * @return matching intervals
+     */
+    @Nonnull
+    protected List<CDateTimeInterval> apply( @Nonnull final CIntervalTree p_index, final long p_epochnanoseconds )
+    {
+        return p_index.stab( p_epochnanoseconds );
+    }
+
+}
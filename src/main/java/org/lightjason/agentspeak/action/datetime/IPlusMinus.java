@@ -38,12 +38,28 @@ import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Locale;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
 /**
  * abstract class to calculate
- * plus / minus on date-time objects
+ * plus / minus on date-time objects.
+ * The first argument is the operator "plus" or "minus",
+ * if the second argument is a number, the number is applied
+ * to all following date-time objects, otherwise the arguments
+ * are pairs of a date-time object and a number, if the second
+ * and third argument are date-time objects, the first half of
+ * the arguments are date-time objects and the second half the
+ * numbers, so two lists can be passed, each date-time object
+ * is shifted by its own number within one call, if a number is
+ * applied to all date-time objects, the date-time objects can be
+ * epoch milliseconds, which are shifted within the system-default
+ * zone and returned as epoch milliseconds, the action fails
+ * if the date-time objects and numbers do not match
+ *
+ * {@code [O1|O2] = .datetime/applydays( "plus", DateTime1, 3, DateTime2, 5 );}
+ * {@code [O1|O2] = .datetime/applydays( "plus", [DateTime1, DateTime2], [3, 5] );}
  */
 public abstract class IPlusMinus extends IBaseAction
 {
@@ -65,64 +81,181 @@ public abstract class IPlusMinus extends IBaseAction
                                                  @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
+        final CActionEvent l_event = CActionEvent.start();
+        final int l_size = p_return.size();
         final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
 
-        switch ( l_arguments.get( 0 ).<String>raw().trim().toLowerCase( Locale.ROOT ) )
+        try
         {
+            final boolean l_minus = minus( p_context, l_arguments.get( 0 ) );
+            if ( l_arguments.size() > 1 )
+                this.apply( p_context, p_parallel, l_minus, l_arguments, p_return );
+        }
+        catch ( final ArithmeticException l_exception )
+        {
+            throw new CExecutionIllegealArgumentException( p_context, l_exception );
+        }
+        finally
+        {
+            l_event.finish( this, l_arguments.size(), p_return.size() - l_size, p_parallel );
+        }
 
-            case "minus":
-                this.applyminus(
-                    l_arguments.stream()
-                               .skip( 2 )
-                               .map( ITerm::raw ),
-                    l_arguments.get( 1 ).<Number>raw().longValue()
-                )
-                    .map( CRawTerm::of )
-                    .forEach( p_return::add );
+        return Stream.empty();
+    }
 
-                return Stream.empty();
+    /**
+     * apply function for minus operator
+     *
+     * @param p_datetime date-time object
+     * @param p_value value
+     * @return modified date-time object
+     */
+    @Nonnull
+    protected abstract ZonedDateTime applyminus( @Nonnull final ZonedDateTime p_datetime, final long p_value );
 
+    /**
+     * apply function for plus operator
+     *
+     * @param p_datetime date-time object
+     * @param p_value value
+     * @return modified date-time object
+     */
+    @Nonnull
+    protected abstract ZonedDateTime applyplus( @Nonnull final ZonedDateTime p_datetime, final long p_value );
 
-            case "plus":
-                this.applyplus(
-                    l_arguments.stream()
-                               .skip( 2 )
-                               .map( ITerm::raw ),
-                    l_arguments.get( 1 ).<Number>raw().longValue()
-                )
-                    .map( CRawTerm::of )
-                    .forEach( p_return::add );
+    /**
+     * applies the operator on the arguments
+     *
+     * @param p_context execution context
+     * @param p_parallel parallel execution
+     * @param p_minus minus operator
+     * @param p_arguments flatten arguments
+     * @param p_return return arguments
+     */
+    private void apply( @Nonnull final IContext p_context, final boolean p_parallel, final boolean p_minus, @Nonnull final List<ITerm> p_arguments,
+                        @Nonnull final List<ITerm> p_return )
+    {
+        // single value for all date-time objects
+        if ( CCommon.isssignableto( p_arguments.get( 1 ), Number.class ) )
+        {
+            if ( !p_arguments.stream().skip( 2 ).allMatch( i -> isdatetime( i ) || CCommon.isssignableto( i, Number.class ) ) )
+                throw mismatch( p_context );
 
-                return Stream.empty();
+            final long l_value = p_arguments.get( 1 ).<Number>raw().longValue();
+            CDateTimeCommon.stream( p_arguments.subList( 2, p_arguments.size() ), p_parallel )
+                           .map( i -> this.apply( p_minus, i.<Object>raw(), l_value ) )
+                           .map( CRawTerm::of )
+                           .forEachOrdered( p_return::add );
+            return;
+        }
 
+        // pairs of date-time object and value or two lists
+        final boolean l_pairs = p_arguments.size() < 3 || CCommon.isssignableto( p_arguments.get( 2 ), Number.class );
+        final int l_count = ( p_arguments.size() - 1 ) / 2;
+        if ( p_arguments.size() % 2 == 0
+             || !IntStream.range( 0, l_count ).allMatch( i -> isdatetime( p_arguments.get( l_pairs ? 1 + 2 * i : 1 + i ) ) )
+             || !IntStream.range( 0, l_count )
+                          .allMatch( i -> CCommon.isssignableto( p_arguments.get( l_pairs ? 2 + 2 * i : 1 + l_count + i ), Number.class ) ) )
+            throw mismatch( p_context );
 
-            default:
-                throw new CExecutionIllegealArgumentException(
-                    p_context,
-                    org.lightjason.agentspeak.common.CCommon.languagestring( IPlusMinus.class, "unknownargument", l_arguments.get( 0 ).raw() )
-                );
+        CDateTimeCommon.range( l_count, p_parallel )
+                       .mapToObj( i -> this.apply(
+                           p_minus,
+                           p_arguments.get( l_pairs ? 1 + 2 * i : 1 + i ).<Object>raw(),
+                           p_arguments.get( l_pairs ? 2 + 2 * i : 1 + l_count + i ).<Number>raw().longValue()
+                       ) )
+                       .map( CRawTerm::of )
+                       .forEachOrdered( p_return::add );
+    }
 
-        }
+    /**
+     * fixed length of the unit in nano-seconds, compact
+     * date-time objects are shifted on the epoch value if
+     * the unit does not depend on the calendar
+     *
+     * @return nano-seconds of the unit or zero if the unit depends on the calendar
+     */
+    @Nonnegative
+    protected long nanoseconds()
+    {
+        return 0;
     }
 
     /**
-     * apply function for plus operator
+     * applies the operator
      *
-     * @param p_datetime date-time object stream
+     * @param p_minus minus operator
+     * @param p_datetime zoned or compact date-time object or epoch milliseconds
      * @param p_value value
-     * @return return object stream
+     * @return modified date-time object of the same type
      */
     @Nonnull
-    protected abstract Stream<?> applyminus( @Nonnull final Stream<ZonedDateTime> p_datetime, final long p_value );
+    private Object apply( final boolean p_minus, @Nonnull final Object p_datetime, final long p_value )
+    {
+        if ( p_datetime instanceof Number )
+            return EEpochUnit.MILLISECONDS.value( this.apply( p_minus, CDateTimeCommon.datetime( p_datetime ), p_value ) );
+
+        if ( !( p_datetime instanceof CCompactDateTime ) )
+            return p_minus ? this.applyminus( (ZonedDateTime) p_datetime, p_value ) : this.applyplus( (ZonedDateTime) p_datetime, p_value );
+
+        final CCompactDateTime l_datetime = (CCompactDateTime) p_datetime;
+        if ( this.nanoseconds() == 0 )
+            return CCompactDateTime.of( (ZonedDateTime) this.apply( p_minus, l_datetime.datetime(), p_value ) );
+
+        return l_datetime.withepochnanoseconds(
+            Math.addExact( l_datetime.epochnanoseconds(), Math.multiplyExact( p_minus ? Math.negateExact( p_value ) : p_value, this.nanoseconds() ) )
+        );
+    }
 
     /**
-     * apply function for minus operator
+     * checks if a term is a zoned or compact date-time object
      *
-     * @param p_datetime date-time object stream
-     * @param p_value value
-     * @return return object stream
+     * @param p_term term
+     * @return date-time flag
+     */
+    private static boolean isdatetime( @Nonnull final ITerm p_term )
+    {
+        return CCommon.isssignableto( p_term, ZonedDateTime.class ) || CCommon.isssignableto( p_term, CCompactDateTime.class );
+    }
+
+    /**
+     * creates the exception of mismatched date-time objects and values
+     *
+     * @param p_context execution context
+     * @return exception
      */
     @Nonnull
-    protected abstract Stream<?> applyplus( @Nonnull final Stream<ZonedDateTime> p_datetime, final long p_value );
+    private static CExecutionIllegealArgumentException mismatch( @Nonnull final IContext p_context )
+    {
+        return new CExecutionIllegealArgumentException(
+            p_context,
+            org.lightjason.agentspeak.common.CCommon.languagestring( IPlusMinus.class, "mismatch" )
+        );
+    }
+
+    /**
+     * reads the operator
+     *
+     * @param p_context execution context
+     * @param p_operator operator term
+     * @return minus operator
+     */
+    private static boolean minus( @Nonnull final IContext p_context, @Nonnull final ITerm p_operator )
+    {
+        switch ( p_operator.<String>raw().trim().toLowerCase( Locale.ROOT ) )
+        {
+            case "minus":
+                return true;
+
+            case "plus":
+                return false;
+
+            default:
+                throw new CExecutionIllegealArgumentException(
+                    p_context,
+                    org.lightjason.agentspeak.common.CCommon.languagestring( IPlusMinus.class, "unknownargument", p_operator.raw() )
+                );
+        }
+    }
 
 }
@@ -23,23 +23,52 @@
 
 package org.lightjason.agentspeak.action.datetime;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.agent.IAgent;
 import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CLiteral;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.instantiable.plan.trigger.ITrigger;
 import org.lightjason.agentspeak.testing.IBaseTest;
 
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.zone.ZoneOffsetTransition;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -121,7 +150,17 @@ public final class TestCActionDateTime extends IBaseTest
             Arguments.of( new CSecondsBetween(), Stream.of(
                 "1995-01-15T10:23:13Z[Europe/Madrid]", "1995-01-15T10:23:13Z[Europe/Madrid]",
                 "1995-02-15T10:23:13Z[Europe/Madrid]", "1995-02-14T10:23:13Z[Europe/Madrid]"
-            ), Stream.of( 0, -86400 ) )
+            ), Stream.of( 0, -86400 ) ),
+
+            Arguments.of( new CMonthsBetween(), Stream.of(
+                "2001-01-31T10:00:00Z[UTC]", "2001-02-28T10:00:00Z[UTC]",
+                "2000-01-31T10:00:00Z[UTC]", "2000-02-29T09:00:00Z[UTC]"
+            ), Stream.of( 1, 0 ) ),
+
+            Arguments.of( new CYearsBetween(), Stream.of(
+                "2000-02-29T00:00:00Z[UTC]", "2001-02-28T00:00:00Z[UTC]",
+                "2004-02-29T11:00:00Z[UTC]", "2000-02-29T12:00:00Z[UTC]"
+            ), Stream.of( 1, -3 ) )
 
         );
     }
@@ -165,6 +204,113 @@ public final class TestCActionDateTime extends IBaseTest
     }
 
 
+    /**
+     * test parse cache
+     */
+    @Test
+    public void parsecache()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final long l_hits = IDateTime.parsecache().hits();
+
+        new CCreate().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "2011-12-03T10:15:30+01:00[Europe/Paris]", "2011-12-03T10:15:30+01:00[Europe/Paris]" ).map( CRawTerm::of )
+                  .collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 2, l_return.size() );
+        Assertions.assertEquals( l_return.get( 0 ).<ZonedDateTime>raw(), l_return.get( 1 ).<ZonedDateTime>raw() );
+        Assertions.assertTrue( IDateTime.parsecache().hits() > l_hits );
+    }
+
+    /**
+     * test cache eviction
+     */
+    @Test
+    public void cacheeviction()
+    {
+        final CCache<Integer, String> l_cache = new CCache<>( 2 );
+
+        l_cache.get( 1, String::valueOf );
+        l_cache.get( 2, String::valueOf );
+        l_cache.get( 1, String::valueOf );
+        l_cache.get( 3, String::valueOf );
+
+        Assertions.assertEquals( 2, l_cache.size() );
+        Assertions.assertEquals( 1, l_cache.hits() );
+        Assertions.assertEquals( 3, l_cache.misses() );
+        Assertions.assertEquals( 1, l_cache.evictions() );
+
+        l_cache.get( 1, String::valueOf );
+        Assertions.assertEquals( 2, l_cache.hits() );
+
+        l_cache.capacity( 0 );
+        Assertions.assertEquals( 0, l_cache.size() );
+
+        Assertions.assertThrows( IllegalArgumentException.class, () -> new CCache<Integer, String>( -1 ) );
+    }
+
+    /**
+     * test cache with concurrent clearing
+     */
+    @Test
+    public void cacheconcurrent()
+    {
+        final CCache<Integer, String> l_cache = new CCache<>( 16 );
+
+        IntStream.range( 0, 100000 ).parallel().forEach( i ->
+        {
+            if ( i % 1000 == 0 )
+                l_cache.clear();
+            else
+                l_cache.get( i % 64, String::valueOf );
+        } );
+
+        IntStream.range( 1000, 1100 ).forEach( i -> l_cache.get( i, String::valueOf ) );
+        Assertions.assertEquals( 16, l_cache.size() );
+    }
+
+    /**
+     * test parallel execution
+     */
+    @Test
+    public void parallel()
+    {
+        final List<ITerm> l_datetime = IntStream.range( 0, 2 * CDateTimeCommon.PARALLELTHRESHOLD )
+                                                .mapToObj( i -> ZonedDateTime.parse( "2001-01-15T10:16:13Z[Europe/London]" ).plusHours( 7L * i ) )
+                                                .map( CRawTerm::of )
+                                                .collect( Collectors.toList() );
+
+        final List<ITerm> l_tuples = IntStream.range( 0, CDateTimeCommon.PARALLELTHRESHOLD )
+                                              .mapToObj( i -> Stream.of( 2000 + i % 50, 1 + i % 12, 1 + i % 28, i % 24, i % 60, i % 60, i, "UTC" ) )
+                                              .flatMap( i -> i )
+                                              .map( CRawTerm::of )
+                                              .collect( Collectors.toList() );
+
+        assertparallel( new CCreate(), l_datetime );
+        assertparallel( new CDate(), l_datetime );
+        assertparallel( new CDaysBetween(), l_datetime );
+        assertparallel(
+            new CApplyDays(),
+            Stream.concat( Stream.of( "plus", 3 ).map( CRawTerm::of ), l_datetime.stream() ).collect( Collectors.toList() )
+        );
+        assertparallel( new CBuild(), l_tuples );
+    }
+
+    /**
+     * test zone resolution
+     */
+    @Test
+    public void zones()
+    {
+        Assertions.assertEquals( ZoneId.systemDefault(), CZones.of( "" ) );
+        Assertions.assertEquals( ZoneId.systemDefault(), CZones.of( " Current " ) );
+        Assertions.assertEquals( ZoneId.of( "Europe/Berlin" ), CZones.of( " Europe/Berlin" ) );
+        Assertions.assertSame( CZones.of( "Europe/Moscow" ), CZones.of( "Europe/Moscow" ) );
+    }
+
     /**
      * test build
      */
@@ -293,99 +439,1376 @@ public final class TestCActionDateTime extends IBaseTest
     }
 
     /**
-     * test between
-     *
-     * @param p_action action
-     * @param p_terms input terms
-     * @param p_value input values
+     * test apply with individual values
      */
-    @ParameterizedTest
-    @MethodSource( "generatebetween" )
-    public void between( final IAction p_action, final Stream<String> p_terms, final Stream<Number> p_value )
+    @Test
+    public void applyvector()
+    {
+        final List<ITerm> l_pairs = new ArrayList<>();
+        final List<ITerm> l_lists = new ArrayList<>();
+        final ZonedDateTime l_first = ZonedDateTime.parse( "2008-05-04T10:17:13Z[America/New_York]" );
+        final ZonedDateTime l_second = ZonedDateTime.parse( "2009-01-15T15:16:13Z[Europe/London]" );
+
+        new CApplyDays().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "plus", l_first, 3, l_second, -2 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_pairs
+        );
+
+        new CApplyDays().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of(
+                "minus",
+                Stream.of( l_first, l_second ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                Stream.of( 3, 7 ).map( CRawTerm::of ).collect( Collectors.toList() )
+            )
+                  .map( CRawTerm::of )
+                  .collect( Collectors.toList() ),
+            l_lists
+        );
+
+        Assertions.assertArrayEquals( new Object[]{l_first.plusDays( 3 ), l_second.minusDays( 2 )}, l_pairs.stream().map( ITerm::raw ).toArray() );
+        Assertions.assertArrayEquals( new Object[]{l_first.minusDays( 3 ), l_second.minusDays( 7 )}, l_lists.stream().map( ITerm::raw ).toArray() );
+
+        Stream.of(
+            Stream.of( "plus", l_first, l_second, 5 ),
+            Stream.of( "plus", l_first, 1, l_second ),
+            Stream.of( "plus", l_first, l_second, 5, 6, 7 )
+        ).forEach( i -> Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CApplyHours().execute( false, IContext.EMPTYPLAN, i.map( CRawTerm::of ).collect( Collectors.toList() ), l_pairs )
+        ) );
+    }
+
+    /**
+     * test reuse of the field terms
+     */
+    @Test
+    public void fieldterms()
+    {
+        final List<ITerm> l_first = new ArrayList<>();
+        final List<ITerm> l_second = new ArrayList<>();
+        final List<ITerm> l_argument = Stream.of( "2017-06-14T13:27:45Z[Europe/Paris]" ).map( CRawTerm::of ).collect( Collectors.toList() );
+
+        new CDate().execute( false, IContext.EMPTYPLAN, l_argument, l_first );
+        new CTime().execute( false, IContext.EMPTYPLAN, l_argument, l_first );
+        new CDate().execute( false, IContext.EMPTYPLAN, l_argument, l_second );
+        new CTime().execute( false, IContext.EMPTYPLAN, l_argument, l_second );
+
+        Assertions.assertArrayEquals( new Object[]{2017, 6, 14, "WEDNESDAY", 165, 15, 27, 45, 0}, l_first.stream().map( ITerm::raw ).toArray() );
+        IntStream.range( 0, l_first.size() ).forEach( i -> Assertions.assertSame( l_first.get( i ), l_second.get( i ) ) );
+    }
+
+    /**
+     * test replaceable clocks
+     */
+    @Test
+    public void clock()
+    {
+        final CSimulatedClock l_simulated = new CSimulatedClock( ZonedDateTime.parse( "2010-01-01T00:00:00Z" ) );
+        final IClock l_previous = IDateTime.clock( l_simulated );
+        try
+        {
+            final List<ITerm> l_return = new ArrayList<>();
+            new CCreate().execute( false, IContext.EMPTYPLAN, Collections.emptyList(), l_return );
+            l_simulated.advance( Duration.ofHours( 25 ) );
+            new CCreate().execute( false, IContext.EMPTYPLAN, Stream.of( "now" ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return );
+
+            Assertions.assertArrayEquals(
+                Stream.of( "2010-01-01T00:00:00Z", "2010-01-02T01:00:00Z" ).map( ZonedDateTime::parse ).toArray(),
+                l_return.stream().map( ITerm::raw ).toArray()
+            );
+        }
+        finally
+        {
+            IDateTime.clock( l_previous );
+        }
+
+        final CCoarseClock l_coarse = new CCoarseClock( Duration.ZERO );
+        final ZonedDateTime l_now = l_coarse.now();
+        Assertions.assertSame( l_now, l_coarse.now() );
+        Assertions.assertNotSame( l_now, l_coarse.tick() );
+        Assertions.assertFalse( l_now.isAfter( l_coarse.now() ) );
+    }
+
+    /**
+     * test compact date-time
+     */
+    @Test
+    public void compact()
+    {
+        final ZonedDateTime l_datetime = ZonedDateTime.parse( "2016-03-27T01:30:10.000000123+01:00[Europe/Berlin]" );
+        final List<ITerm> l_create = new ArrayList<>();
+        final List<ITerm> l_build = new ArrayList<>();
+
+        new CCreate().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "compact", l_datetime.toString() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_create
+        );
+        new CBuild().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "compact", 2016, 3, 27, 1, 30, 10, 123, "Europe/Berlin" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_build
+        );
+
+        Assertions.assertEquals( 1, l_create.size() );
+        Assertions.assertEquals( CCompactDateTime.of( l_datetime ), l_create.get( 0 ).raw() );
+        Assertions.assertEquals( l_create.get( 0 ).<Object>raw(), l_build.get( 0 ).raw() );
+        Assertions.assertEquals( l_datetime, l_create.get( 0 ).<CCompactDateTime>raw().datetime() );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        new CZoneid().execute( false, IContext.EMPTYPLAN, l_create, l_return );
+        new CHoursBetween().execute( false, IContext.EMPTYPLAN, Stream.of( l_create.get( 0 ), CRawTerm.of( l_datetime.plusHours( 5 ) ) )
+                                                                      .collect( Collectors.toList() ), l_return );
+        new CApplyHours().execute( false, IContext.EMPTYPLAN, Stream.of( CRawTerm.of( "plus" ), CRawTerm.of( 1 ), l_create.get( 0 ) )
+                                                                    .collect( Collectors.toList() ), l_return );
+        new CApplyMonths().execute( false, IContext.EMPTYPLAN, Stream.of( CRawTerm.of( "minus" ), CRawTerm.of( 1 ), l_create.get( 0 ) )
+                                                                     .collect( Collectors.toList() ), l_return );
+
+        Assertions.assertArrayEquals(
+            new Object[]{"Europe/Berlin", 5L, CCompactDateTime.of( l_datetime.plusHours( 1 ) ), CCompactDateTime.of( l_datetime.minusMonths( 1 ) )},
+            l_return.stream().map( ITerm::raw ).toArray()
+        );
+        Assertions.assertEquals(
+            "2016-03-27T03:30:10.000000123+02:00[Europe/Berlin]",
+            l_return.get( 2 ).<CCompactDateTime>raw().datetime().toString()
+        );
+    }
+
+    /**
+     * test format
+     */
+    @Test
+    public void format()
     {
         final List<ITerm> l_return = new ArrayList<>();
+        final ZonedDateTime l_datetime = ZonedDateTime.parse( "2017-06-14T13:27:45Z[Europe/Paris]" );
 
-        p_action.execute(
+        new CFormat().execute(
             false, IContext.EMPTYPLAN,
-            p_terms.map( ZonedDateTime::parse ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Stream.of( "dd.MM.yyyy HH:mm", l_datetime, CCompactDateTime.of( l_datetime.plusDays( 1 ) ) )
+                  .map( CRawTerm::of )
+                  .collect( Collectors.toList() ),
+            l_return
+        );
+        new CFormat().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "EEEE, d. MMMM yyyy", "de-DE", l_datetime ).map( CRawTerm::of ).collect( Collectors.toList() ),
             l_return
         );
 
         Assertions.assertArrayEquals(
-            p_value.mapToLong( Number::longValue ).toArray(),
-            l_return.stream().map( ITerm::<Number>raw ).mapToLong( Number::longValue ).toArray()
+            new Object[]{"14.06.2017 15:27", "15.06.2017 15:27", "Mittwoch, 14. Juni 2017"},
+            l_return.stream().map( ITerm::raw ).toArray()
         );
+        Assertions.assertSame( CFormatters.of( "dd.MM.yyyy HH:mm" ), CFormatters.of( "dd.MM.yyyy HH:mm" ) );
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CFormat().execute(
+                false, IContext.EMPTYPLAN,
+                Stream.of( "yyyy-{{", l_datetime ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+        Stream.of( "de_DE", "de-DE-!", "deutschland-de" )
+              .forEach( i -> Assertions.assertThrows(
+                  CExecutionIllegealArgumentException.class,
+                  () -> new CFormat().execute(
+                      false, IContext.EMPTYPLAN,
+                      Stream.of( "EEEE", i, l_datetime ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                      l_return
+                  ),
+                  i
+              ) );
     }
 
     /**
-     * test the date
+     * test parse
      */
     @Test
-    public void datestring()
+    public void parse()
     {
         final List<ITerm> l_return = new ArrayList<>();
-        final ZonedDateTime l_current = ZonedDateTime.now();
 
-        new CDate().execute(
+        new CParse().execute(
             false, IContext.EMPTYPLAN,
-            Stream.of( "now" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Stream.of( "dd.MM.yyyy HH:mm", "zone", "Europe/Berlin", "14.06.2017 13:27", "15.06.2017 08:00" )
+                  .map( CRawTerm::of )
+                  .collect( Collectors.toList() ),
+            l_return
+        );
+        new CParse().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "compact", "dd.MM.yyyy HH:mm VV", "14.06.2017 13:27 Asia/Tokyo" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CParse().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "dd.MM.yyyy", "zone", "Asia/Tokyo", "14.06.2017" ).map( CRawTerm::of ).collect( Collectors.toList() ),
             l_return
         );
 
-        Assertions.assertEquals( 5, l_return.size() );
         Assertions.assertArrayEquals(
-            Stream.of(
-                l_current.getYear(),
-                l_current.getMonthValue(),
-                l_current.getDayOfMonth(),
-                l_current.getDayOfWeek().toString(),
-                l_current.getDayOfYear()
-            ).toArray(),
+            new Object[]{
+                ZonedDateTime.parse( "2017-06-14T13:27+02:00[Europe/Berlin]" ),
+                ZonedDateTime.parse( "2017-06-15T08:00+02:00[Europe/Berlin]" ),
+                CCompactDateTime.of( ZonedDateTime.parse( "2017-06-14T13:27+09:00[Asia/Tokyo]" ) ),
+                ZonedDateTime.parse( "2017-06-14T00:00+09:00[Asia/Tokyo]" )
+            },
             l_return.stream().map( ITerm::raw ).toArray()
         );
+
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CParse().execute(
+                false, IContext.EMPTYPLAN,
+                Stream.of( "dd.MM.yyyy", "2017-06-14" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CParse().execute(
+                false, IContext.EMPTYPLAN,
+                Stream.of( "dd.MM.yyyy", "zone", "Mars/Olympus", "14.06.2017" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CParse().execute(
+                false, IContext.EMPTYPLAN,
+                Stream.of( "dd.MM.yyyy", "zone" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            )
+        );
+
+        assertparallel(
+            new CParse(),
+            Stream.concat(
+                Stream.of( "dd.MM.yyyy HH:mm:ss", "zone", "UTC" ),
+                IntStream.range( 0, 3 * CDateTimeCommon.PARALLELTHRESHOLD )
+                         .mapToObj( i -> String.format( "%02d.01.2000 10:%02d:%02d", 1 + i % 28, i % 60, i % 59 ) )
+            ).map( CRawTerm::of ).collect( Collectors.toList() )
+        );
     }
 
     /**
-     * test date error
+     * test epoch conversion
      */
     @Test
-    public void dateerror()
+    public void epoch()
     {
-        Assertions.assertThrows( CExecutionIllegealArgumentException.class,
-                                 () -> new CDate().execute(
-                                     false, IContext.EMPTYPLAN,
-                                     Stream.of( "xxx" ).map( CRawTerm::of ).collect( Collectors.toList() ),
-                                     Collections.emptyList()
-                                 )
+        final List<ITerm> l_return = new ArrayList<>();
+        final ZonedDateTime l_datetime = ZonedDateTime.parse( "1969-12-31T23:59:58.123456789Z[Europe/Berlin]" );
+
+        new CFromEpoch().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "seconds", "Europe/Berlin", 1497446865, -1 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CFromEpoch().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "compact", "ns", "Europe/Berlin", -1876543211L ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertArrayEquals(
+            new Object[]{
+                ZonedDateTime.parse( "2017-06-14T15:27:45+02:00[Europe/Berlin]" ),
+                ZonedDateTime.parse( "1970-01-01T00:59:59+01:00[Europe/Berlin]" ),
+                CCompactDateTime.of( l_datetime )
+            },
+            l_return.stream().map( ITerm::raw ).toArray()
+        );
+
+        final List<ITerm> l_epoch = new ArrayList<>();
+        new CToEpoch().execute( false, IContext.EMPTYPLAN, Stream.of( l_datetime, CCompactDateTime.of( l_datetime ) ).map( CRawTerm::of )
+                                                                  .collect( Collectors.toList() ), l_epoch );
+        new CToEpoch().execute( false, IContext.EMPTYPLAN, Stream.of( "seconds", l_datetime ).map( CRawTerm::of )
+                                                                  .collect( Collectors.toList() ), l_epoch );
+        new CToEpoch().execute( false, IContext.EMPTYPLAN, Stream.of( "nanoseconds", l_datetime ).map( CRawTerm::of )
+                                                                  .collect( Collectors.toList() ), l_epoch );
 
+        Assertions.assertArrayEquals( new Object[]{-1877L, -1877L, -2L, -1876543211L}, l_epoch.stream().map( ITerm::raw ).toArray() );
+
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CToEpoch().execute( false, IContext.EMPTYPLAN, Stream.of( "hours", l_datetime ).map( CRawTerm::of )
+                                                                           .collect( Collectors.toList() ), l_epoch )
         );
     }
 
     /**
-     * test date by zone id structure
+     * test epoch numbers as date-time arguments
      */
     @Test
-    public void datezonedate()
+    public void epocharguments()
     {
         final List<ITerm> l_return = new ArrayList<>();
-        final ZonedDateTime l_current = ZonedDateTime.now();
+        final long l_epoch = 1497446865000L;
 
-        new CDate().execute(
+        new CHoursBetween().execute( false, IContext.EMPTYPLAN, Stream.of( l_epoch, l_epoch + 7200000 ).map( CRawTerm::of )
+                                                                      .collect( Collectors.toList() ), l_return );
+        new CApplySeconds().execute( false, IContext.EMPTYPLAN, Stream.of( "plus", 5, l_epoch ).map( CRawTerm::of )
+                                                                      .collect( Collectors.toList() ), l_return );
+        new CCreate().execute( false, IContext.EMPTYPLAN, Stream.of( l_epoch ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return );
+
+        Assertions.assertArrayEquals(
+            new Object[]{2L, l_epoch + 5000, ZonedDateTime.ofInstant( Instant.ofEpochMilli( l_epoch ), ZoneId.systemDefault() )},
+            l_return.stream().map( ITerm::raw ).toArray()
+        );
+    }
+
+    /**
+     * test sort
+     */
+    @Test
+    public void sort()
+    {
+        final ZonedDateTime l_first = ZonedDateTime.parse( "2017-06-14T13:27:45Z[Europe/Paris]" );
+        final ZonedDateTime l_equal = l_first.withZoneSameInstant( ZoneId.of( "Asia/Tokyo" ) );
+        final CCompactDateTime l_second = CCompactDateTime.of( l_first.plusNanos( 1 ) );
+        final long l_third = l_first.plusDays( 1 ).toInstant().toEpochMilli();
+        final ZonedDateTime l_zero = ZonedDateTime.parse( "1970-01-01T00:00Z" );
+        final List<ITerm> l_input = Stream.of( l_second, l_third, l_first, l_zero, l_equal ).map( CRawTerm::of ).collect( Collectors.toList() );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        new CSort().execute( false, IContext.EMPTYPLAN, l_input, l_return );
+        Assertions.assertArrayEquals( new Object[]{l_zero, l_first, l_equal, l_second, l_third}, l_return.stream().map( ITerm::raw ).toArray() );
+
+        l_return.clear();
+        new CSort().execute(
             false, IContext.EMPTYPLAN,
-            Stream.of( l_current ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Stream.concat( Stream.of( CRawTerm.of( "descending" ), CRawTerm.of( "distinct" ) ), l_input.stream() ).collect( Collectors.toList() ),
             l_return
         );
+        Assertions.assertArrayEquals( new Object[]{l_third, l_second, l_first, l_zero}, l_return.stream().map( ITerm::raw ).toArray() );
+
+        l_return.clear();
+        final ZonedDateTime l_future = ZonedDateTime.parse( "3000-01-01T00:00Z" );
+        new CSort().execute( false, IContext.EMPTYPLAN, Stream.of( l_future, l_first, l_zero ).map( CRawTerm::of )
+                                                              .collect( Collectors.toList() ), l_return );
+        Assertions.assertArrayEquals( new Object[]{l_zero, l_first, l_future}, l_return.stream().map( ITerm::raw ).toArray() );
+
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CSort().execute( false, IContext.EMPTYPLAN, Stream.of( "descendig", l_first, l_zero ).map( CRawTerm::of )
+                                                                        .collect( Collectors.toList() ), l_return )
+        );
+
+        final Random l_random = new Random( 42 );
+        assertparallel(
+            new CSort(),
+            IntStream.range( 0, 3 * CDateTimeCommon.PARALLELTHRESHOLD )
+                     .mapToObj( i -> l_zero.plusSeconds( l_random.nextInt( 1000 ) ) )
+                     .map( CRawTerm::of )
+                     .collect( Collectors.toList() )
+        );
+    }
+
+    /**
+     * test aggregate
+     */
+    @Test
+    public void aggregate()
+    {
+        final ZonedDateTime l_first = ZonedDateTime.parse( "2017-06-14T13:27:45.5Z[Europe/Paris]" );
+        final ZonedDateTime l_equal = l_first.withZoneSameInstant( ZoneId.of( "Asia/Tokyo" ) );
+        final CCompactDateTime l_last = CCompactDateTime.of( l_first.plusDays( 1 ).minusNanos( 600000000 ) );
+        final long l_middle = l_first.plusHours( 1 ).toInstant().toEpochMilli();
+
+        final List<ITerm> l_return = new ArrayList<>();
+        new CAggregate().execute( false, IContext.EMPTYPLAN, Stream.of( l_middle, l_first, l_last, l_equal ).map( CRawTerm::of )
+                                                                   .collect( Collectors.toList() ), l_return );
+        new CAggregate().execute( false, IContext.EMPTYPLAN, Stream.of( "seconds", l_first, l_last ).map( CRawTerm::of )
+                                                                   .collect( Collectors.toList() ), l_return );
+        new CAggregate().execute( false, IContext.EMPTYPLAN, Collections.emptyList(), l_return );
 
-        Assertions.assertEquals( 5, l_return.size() );
         Assertions.assertArrayEquals(
-            Stream.of(
-                l_current.getYear(),
-                l_current.getMonthValue(),
-                l_current.getDayOfMonth(),
-                l_current.getDayOfWeek().toString(),
-                l_current.getDayOfYear()
-            ).toArray(),
+            new Object[]{l_first, l_last, 86399400L, l_first, l_last, 86399L},
+            l_return.stream().map( ITerm::raw ).toArray()
+        );
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CAggregate().execute( false, IContext.EMPTYPLAN, Stream.of( "hours", l_first ).map( CRawTerm::of )
+                                                                             .collect( Collectors.toList() ), l_return )
+        );
+
+        final Random l_random = new Random( 42 );
+        assertparallel(
+            new CAggregate(),
+            IntStream.range( 0, 3 * CDateTimeCommon.PARALLELTHRESHOLD )
+                     .mapToObj( i -> l_first.plusSeconds( l_random.nextInt( 1000 ) ) )
+                     .map( CRawTerm::of )
+                     .collect( Collectors.toList() )
+        );
+    }
+
+    /**
+     * test bucket
+     */
+    @Test
+    public void bucket()
+    {
+        final ZonedDateTime l_datetime = ZonedDateTime.parse( "2016-03-27T01:58:10+01:00[Europe/Berlin]" );
+        final List<ITerm> l_input = Stream.of(
+            l_datetime, CCompactDateTime.of( l_datetime.plusMinutes( 10 ) ), l_datetime.plusMinutes( 1 ).toInstant().toEpochMilli(),
+            l_datetime.plusDays( 1 ), l_datetime.withZoneSameInstant( ZoneId.of( "UTC" ) )
+        ).map( CRawTerm::of ).collect( Collectors.toList() );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        new CBucket().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.concat( Stream.of( CRawTerm.of( 15 ), CRawTerm.of( "minutes" ), CRawTerm.of( "Europe/Berlin" ) ), l_input.stream() )
+                  .collect( Collectors.toList() ),
+            l_return
+        );
+        new CBucket().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.concat( Stream.of( CRawTerm.of( 1 ), CRawTerm.of( "weeks" ), CRawTerm.of( "UTC" ) ), l_input.stream() )
+                  .collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertArrayEquals(
+            new Object[]{
+                ZonedDateTime.parse( "2016-03-27T01:45+01:00[Europe/Berlin]" ), 3,
+                ZonedDateTime.parse( "2016-03-27T03:00+02:00[Europe/Berlin]" ), 1,
+                ZonedDateTime.parse( "2016-03-28T01:45+02:00[Europe/Berlin]" ), 1,
+                ZonedDateTime.parse( "2016-03-21T00:00Z[UTC]" ), 5
+            },
+            l_return.stream().map( ITerm::raw ).toArray()
+        );
+
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CBucket().execute( false, IContext.EMPTYPLAN, Stream.of( 1, "fortnight", l_datetime ).map( CRawTerm::of )
+                                                                          .collect( Collectors.toList() ), l_return )
+        );
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CBucket().execute( false, IContext.EMPTYPLAN, Stream.of( 0, "hours", l_datetime ).map( CRawTerm::of )
+                                                                          .collect( Collectors.toList() ), l_return )
+        );
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CBucket().execute( false, IContext.EMPTYPLAN, Stream.of( 1.5, "seconds", l_datetime ).map( CRawTerm::of )
+                                                                          .collect( Collectors.toList() ), l_return )
+        );
+
+        final ZonedDateTime l_second = ZonedDateTime.parse( "2016-03-27T00:00:00Z[UTC]" );
+        l_return.clear();
+        new CBucket().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 500, "milliseconds", "UTC", l_second, l_second.plusNanos( 600000000 ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CBucket().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 1500, "milliseconds", "UTC", l_second, l_second.plusSeconds( 2 ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertArrayEquals(
+            new Object[]{
+                l_second, 1, ZonedDateTime.parse( "2016-03-27T00:00:00.500Z[UTC]" ), 1,
+                l_second, 1, ZonedDateTime.parse( "2016-03-27T00:00:01.500Z[UTC]" ), 1
+            },
             l_return.stream().map( ITerm::raw ).toArray()
         );
+
+        final Random l_random = new Random( 42 );
+        assertparallel(
+            new CBucket(),
+            Stream.concat(
+                Stream.of( 1, "hours" ),
+                IntStream.range( 0, 3 * CDateTimeCommon.PARALLELTHRESHOLD ).mapToObj( i -> l_datetime.plusMinutes( l_random.nextInt( 10000 ) ) )
+            ).map( CRawTerm::of ).collect( Collectors.toList() )
+        );
+    }
+
+    /**
+     * test interval index
+     */
+    @Test
+    public void interval()
+    {
+        final ZonedDateTime l_datetime = ZonedDateTime.parse( "2016-03-27T01:00+01:00[Europe/Berlin]" );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CInterval().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of(
+                l_datetime, l_datetime.plusHours( 4 ),
+                CCompactDateTime.of( l_datetime.plusHours( 1 ) ), l_datetime.plusHours( 2 ),
+                l_datetime.plusHours( 3 ).toInstant().toEpochMilli(), l_datetime.plusHours( 6 )
+            ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        Assertions.assertEquals( 3, l_return.size() );
+
+        final CDateTimeInterval l_first = l_return.get( 0 ).raw();
+        final CDateTimeInterval l_second = l_return.get( 1 ).raw();
+        final CDateTimeInterval l_third = l_return.get( 2 ).raw();
+        Assertions.assertEquals( l_datetime.plusHours( 4 ), l_first.end() );
+
+        new CIntervalIndex().execute( false, IContext.EMPTYPLAN, Stream.of( l_third, l_second, l_first ).map( CRawTerm::of )
+                                                                       .collect( Collectors.toList() ), l_return );
+        final CIntervalTree l_index = l_return.get( 3 ).raw();
+        l_return.clear();
+
+        new CIntervalOverlaps().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.<Object>of( l_index, CDateTimeInterval.of( l_datetime.plusHours( 2 ), l_datetime.plusHours( 3 ) ), l_datetime.plusHours( 5 ) )
+                  .map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CIntervalContains().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.<Object>of( l_index, CDateTimeInterval.of( l_datetime.plusMinutes( 70 ), l_datetime.plusMinutes( 80 ) ), l_second )
+                  .map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CIntervalStab().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.<Object>of( l_index, l_datetime.plusHours( 3 ), CCompactDateTime.of( l_datetime.plusHours( 6 ) ) )
+                  .map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertArrayEquals(
+            new Object[]{
+                List.of( l_first ), List.of( l_third ),
+                List.of( l_first, l_second ), List.of( l_first, l_second ),
+                List.of( l_first, l_third ), List.of()
+            },
+            l_return.stream().map( ITerm::raw ).toArray()
+        );
+
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CInterval().execute( false, IContext.EMPTYPLAN, Stream.of( l_datetime, l_datetime.minusNanos( 1 ) ).map( CRawTerm::of )
+                                                                            .collect( Collectors.toList() ), l_return )
+        );
+    }
+
+    /**
+     * test interval index against a linear scan
+     */
+    @Test
+    public void intervalrandom()
+    {
+        final Random l_random = new Random( 42 );
+        final ZonedDateTime l_datetime = ZonedDateTime.parse( "2016-03-27T01:00+01:00[Europe/Berlin]" );
+        final List<CDateTimeInterval> l_intervals = IntStream.range( 0, 2000 )
+                                                             .mapToObj( i -> l_datetime.plusMinutes( l_random.nextInt( 100000 ) ) )
+                                                             .map( i -> CDateTimeInterval.of( i, i.plusMinutes( l_random.nextInt( 500 ) ) ) )
+                                                             .collect( Collectors.toList() );
+        final CIntervalTree l_tree = CIntervalTree.of( l_intervals );
+        final List<CDateTimeInterval> l_sorted = l_intervals.stream().sorted().collect( Collectors.toList() );
+
+        IntStream.range( 0, 500 ).forEach( i ->
+        {
+            final ZonedDateTime l_start = l_datetime.plusMinutes( l_random.nextInt( 100000 ) );
+            final CDateTimeInterval l_query = CDateTimeInterval.of( l_start, l_start.plusMinutes( l_random.nextInt( 100 ) ) );
+
+            Assertions.assertEquals(
+                l_sorted.stream().filter( j -> j.overlaps( l_query ) ).collect( Collectors.toList() ),
+                l_tree.overlaps( l_query )
+            );
+            Assertions.assertEquals(
+                l_sorted.stream().filter( j -> j.contains( l_query ) ).collect( Collectors.toList() ),
+                l_tree.contains( l_query )
+            );
+            Assertions.assertEquals(
+                l_sorted.stream().filter( j -> j.contains( l_query.startepoch() ) ).collect( Collectors.toList() ),
+                l_tree.stab( l_query.startepoch() )
+            );
+        } );
+    }
+
+    /**
+     * test timing wheel
+     */
+    @Test
+    public void timerwheel()
+    {
+        final ZonedDateTime l_start = ZonedDateTime.parse( "2010-01-01T00:00:00Z" );
+        final CSimulatedClock l_clock = new CSimulatedClock( l_start );
+        final CTimerWheel<String> l_wheel = new CTimerWheel<>( l_clock, Duration.ofMillis( 10 ), 7 );
+        final List<String> l_expired = new ArrayList<>();
+
+        l_wheel.schedule( l_start.plusNanos( 25000000 ), "a" );
+        l_wheel.schedule( l_start.plusNanos( 5000000 ), "b" );
+        l_wheel.schedule( l_start.plusSeconds( 1 ), "c" );
+        l_wheel.schedule( l_start.minusSeconds( 1 ), "d" );
+        final CTimerWheel.CTimeout<String> l_cancel = l_wheel.schedule( l_start.plusNanos( 25000000 ), "e" );
+        final CTimerWheel.CTimeout<String> l_reschedule = l_wheel.schedule( l_start.plusNanos( 50000000 ), "f" );
+
+        Assertions.assertTrue( l_cancel.cancel() );
+        Assertions.assertFalse( l_cancel.cancel() );
+        Assertions.assertTrue( l_reschedule.reschedule( l_start.plusNanos( 15000000 ) ) );
+        Assertions.assertEquals( 5, l_wheel.size() );
+
+        Assertions.assertEquals( 0, l_wheel.tick( l_expired::add ) );
+        l_clock.advance( Duration.ofMillis( 10 ) );
+        Assertions.assertEquals( 2, l_wheel.tick( l_expired::add ) );
+        Assertions.assertEquals( List.of( "b", "d" ), l_expired.stream().sorted().collect( Collectors.toList() ) );
+        Assertions.assertTrue( l_reschedule.pending() );
+
+        l_clock.advance( Duration.ofMillis( 10 ) );
+        Assertions.assertEquals( 1, l_wheel.tick( l_expired::add ) );
+        Assertions.assertEquals( "f", l_expired.get( 2 ) );
+
+        l_clock.advance( Duration.ofMillis( 10 ) );
+        Assertions.assertEquals( 1, l_wheel.tick( l_expired::add ) );
+        l_clock.set( l_start );
+        Assertions.assertEquals( 0, l_wheel.tick( l_expired::add ) );
+        l_clock.set( l_start.plusSeconds( 2 ) );
+        Assertions.assertEquals( 1, l_wheel.tick( l_expired::add ) );
+
+        Assertions.assertEquals( List.of( "a", "c" ), l_expired.subList( 3, l_expired.size() ) );
+        Assertions.assertEquals( 0, l_wheel.size() );
+        Assertions.assertFalse( l_reschedule.pending() );
+        Assertions.assertFalse( l_reschedule.reschedule( l_start ) );
+    }
+
+    /**
+     * test schedule actions
+     */
+    @Test
+    public void schedule()
+    {
+        final ZonedDateTime l_start = ZonedDateTime.parse( "2010-01-01T00:00:00Z" );
+        final CSimulatedClock l_clock = new CSimulatedClock( l_start );
+        final Supplier<CTimerWheel<ITrigger>> l_previous = CSchedule.factory( () -> new CTimerWheel<>( l_clock, Duration.ofMillis( 10 ), 64 ) );
+        CSchedule.remove( IAgent.EMPTY );
+        try
+        {
+            final List<ITerm> l_handles = new ArrayList<>();
+            new CSchedule().execute(
+                false, IContext.EMPTYPLAN,
+                Stream.of(
+                    l_start.plusSeconds( 1 ), CLiteral.of( "first" ),
+                    CCompactDateTime.of( l_start.plusSeconds( 2 ) ), CLiteral.of( "second" ),
+                    l_start.plusSeconds( 3 ).toInstant().toEpochMilli(), CLiteral.of( "third" )
+                ).map( i -> i instanceof ITerm ? (ITerm) i : CRawTerm.of( i ) ).collect( Collectors.toList() ),
+                l_handles
+            );
+            Assertions.assertEquals( 3, CSchedule.wheel( IAgent.EMPTY ).size() );
+
+            final List<ITerm> l_return = new ArrayList<>();
+            new CCancel().execute( false, IContext.EMPTYPLAN, List.of( l_handles.get( 1 ) ), l_return );
+            new CReschedule().execute( false, IContext.EMPTYPLAN, List.of( l_handles.get( 2 ), CRawTerm.of( l_start.plusSeconds( 1 ) ) ), l_return );
+            l_clock.advance( Duration.ofSeconds( 1 ) );
+            new CTick().execute( false, IContext.EMPTYPLAN, Collections.emptyList(), l_return );
+            new CCancel().execute( false, IContext.EMPTYPLAN, l_handles, l_return );
+
+            Assertions.assertArrayEquals(
+                new Object[]{true, true, 2, false, false, false},
+                l_return.stream().map( ITerm::raw ).toArray()
+            );
+
+            new CSchedule().execute(
+                false, IContext.EMPTYPLAN, List.of( CRawTerm.of( l_start.plusSeconds( 5 ) ), CLiteral.of( "fourth" ) ), l_handles
+            );
+            Assertions.assertEquals( 1, CSchedule.remove( IAgent.EMPTY ) );
+            Assertions.assertEquals( 0, CSchedule.wheel( IAgent.EMPTY ).size() );
+
+            Stream.of(
+                List.of( CRawTerm.of( l_start ), CLiteral.of( "fifth" ), CRawTerm.of( l_start.plusSeconds( 1 ) ) ),
+                List.of( CLiteral.of( "sixth" ), CRawTerm.of( l_start ) )
+            ).forEach( i -> Assertions.assertThrows(
+                CExecutionIllegealArgumentException.class,
+                () -> new CSchedule().execute( false, IContext.EMPTYPLAN, i, l_return )
+            ) );
+            Stream.of(
+                List.of( l_handles.get( 0 ), CRawTerm.of( l_start ), l_handles.get( 1 ) ),
+                List.of( CRawTerm.of( l_start ), l_handles.get( 0 ) )
+            ).forEach( i -> Assertions.assertThrows(
+                CExecutionIllegealArgumentException.class,
+                () -> new CReschedule().execute( false, IContext.EMPTYPLAN, i, l_return )
+            ) );
+            Assertions.assertEquals( 0, CSchedule.wheel( IAgent.EMPTY ).size() );
+        }
+        finally
+        {
+            CSchedule.factory( l_previous );
+            CSchedule.remove( IAgent.EMPTY );
+        }
+    }
+
+    /**
+     * test business days
+     *
+     * @param p_directory temporary directory
+     * @throws IOException on file errors
+     */
+    @Test
+    public void businessdays( @TempDir final Path p_directory ) throws IOException
+    {
+        final Path l_file = p_directory.resolve( "holidays.txt" );
+        Files.write(
+            l_file,
+            List.of( "# test calendar", "weekend = saturday, sunday", "years = 2016-2017", "2016-12-26", "2017-01-02  # new year" )
+        );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        new CApplyBusinessDays().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_file.toString(), 3, ZonedDateTime.parse( "2016-12-23T10:00+01:00[Europe/Berlin]" ),
+                       ZonedDateTime.parse( "2016-12-24T10:00+01:00[Europe/Berlin]" ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CApplyBusinessDays().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_file.toString(), -1, CCompactDateTime.of( ZonedDateTime.parse( "2017-01-03T08:00Z[UTC]" ) ) ).map( CRawTerm::of )
+                  .collect( Collectors.toList() ),
+            l_return
+        );
+        new CBusinessDaysBetween().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of(
+                CBusinessCalendar.load( l_file.toString() ),
+                ZonedDateTime.parse( "2016-12-23T10:00Z" ), ZonedDateTime.parse( "2017-01-03T00:00Z" ),
+                ZonedDateTime.parse( "2017-01-03T00:00Z" ), ZonedDateTime.parse( "2016-12-23T10:00Z" )
+            ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertArrayEquals(
+            new Object[]{
+                ZonedDateTime.parse( "2016-12-29T10:00+01:00[Europe/Berlin]" ), ZonedDateTime.parse( "2016-12-29T10:00+01:00[Europe/Berlin]" ),
+                CCompactDateTime.of( ZonedDateTime.parse( "2016-12-30T08:00Z[UTC]" ) ), 5L, -5L
+            },
+            l_return.stream().map( ITerm::raw ).toArray()
+        );
+
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CApplyBusinessDays().execute( false, IContext.EMPTYPLAN, Stream.of( l_file.toString(), 300, ZonedDateTime.now() )
+                                                                                     .map( CRawTerm::of ).collect( Collectors.toList() ), l_return )
+        );
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CApplyBusinessDays().execute( false, IContext.EMPTYPLAN, Stream.of( p_directory.resolve( "missing" ).toString(), 1, 0 )
+                                                                                     .map( CRawTerm::of ).collect( Collectors.toList() ), l_return )
+        );
+
+        final List<String> l_malformed = List.of(
+            "years = 2016-", "years = x", "weekend = saturday, caturday", "2016-02-30", "years = 2017-2016", "weekend = saturday"
+        );
+        for ( int i = 0; i < l_malformed.size(); i++ )
+        {
+            final Path l_invalid = p_directory.resolve( "invalid" + i + ".txt" );
+            Files.write( l_invalid, List.of( "2016-12-26", l_malformed.get( i ) ) );
+            Assertions.assertThrows(
+                CExecutionIllegealArgumentException.class,
+                () -> new CApplyBusinessDays().execute(
+                    false, IContext.EMPTYPLAN, Stream.of( l_invalid.toString(), 1, 0 ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return
+                ),
+                l_malformed.get( i )
+            );
+        }
+
+        final Path l_noyears = p_directory.resolve( "noyears.txt" );
+        Files.write( l_noyears, List.of( "weekend = sunday", "2016-12-26" ) );
+        Assertions.assertTrue(
+            Assertions.assertThrows( IOException.class, () -> CBusinessCalendar.from( l_noyears ) ).getMessage().contains( "missing years" )
+        );
+
+        final Random l_random = new Random( 42 );
+        final CBusinessCalendar l_calendar = CBusinessCalendar.of(
+            2000, 2030, EnumSet.of( DayOfWeek.FRIDAY ),
+            IntStream.range( 0, 500 ).mapToObj( i -> LocalDate.of( 2000, 1, 1 ).plusDays( l_random.nextInt( 11323 ) ) ).collect( Collectors.toSet() )
+        );
+        IntStream.range( 0, 1000 ).forEach( i ->
+        {
+            final LocalDate l_date = LocalDate.of( 2001, 1, 1 ).plusDays( l_random.nextInt( 10000 ) );
+            final long l_value = l_random.nextInt( 401 ) - 200;
+
+            LocalDate l_expected = l_date;
+            for ( long j = Math.abs( l_value ); j > 0; )
+            {
+                l_expected = l_expected.plusDays( Long.signum( l_value ) );
+                if ( l_calendar.working( l_expected ) )
+                    j--;
+            }
+
+            Assertions.assertEquals( l_expected, l_calendar.plus( l_date, l_value ) );
+            Assertions.assertEquals(
+                l_value > 0 ? l_value - 1 + ( l_calendar.working( l_date ) ? 1 : 0 ) : l_value,
+                l_calendar.between( l_date, l_expected )
+            );
+        } );
+    }
+
+    /**
+     * test recurrence
+     */
+    @Test
+    public void recurrence()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        new CRecurrence().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "0 8 * * mon", 3, "Europe/Berlin", ZonedDateTime.parse( "2016-03-24T09:00Z" ) ).map( CRawTerm::of )
+                  .collect( Collectors.toList() ),
+            l_return
+        );
+        new CRecurrence().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of(
+                "30 2 * * *", 2,
+                ZonedDateTime.parse( "2016-03-26T12:00+01:00[Europe/Berlin]" ),
+                CCompactDateTime.of( ZonedDateTime.parse( "2016-10-30T00:00+02:00[Europe/Berlin]" ) ),
+                ZonedDateTime.parse( "2016-10-30T02:40+01:00[Europe/Berlin]" )
+            ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CRecurrence().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "0 0 13 * fri", 3, ZonedDateTime.parse( "2016-05-01T00:00Z[UTC]" ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CRecurrence().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "0 0 30 2 *", 3, ZonedDateTime.parse( "2016-05-01T00:00Z[UTC]" ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertArrayEquals(
+            new Object[]{
+                Stream.of( "2016-03-28T08:00+02:00[Europe/Berlin]", "2016-04-04T08:00+02:00[Europe/Berlin]", "2016-04-11T08:00+02:00[Europe/Berlin]" )
+                      .map( ZonedDateTime::parse ).collect( Collectors.toList() ),
+                Stream.of( "2016-03-27T03:00+02:00[Europe/Berlin]", "2016-03-28T02:30+02:00[Europe/Berlin]" )
+                      .map( ZonedDateTime::parse ).collect( Collectors.toList() ),
+                Stream.of( "2016-10-30T02:30+02:00[Europe/Berlin]", "2016-10-31T02:30+01:00[Europe/Berlin]" )
+                      .map( ZonedDateTime::parse ).collect( Collectors.toList() ),
+                Stream.of( "2016-10-31T02:30+01:00[Europe/Berlin]", "2016-11-01T02:30+01:00[Europe/Berlin]" )
+                      .map( ZonedDateTime::parse ).collect( Collectors.toList() ),
+                Stream.of( "2016-05-06T00:00Z[UTC]", "2016-05-13T00:00Z[UTC]", "2016-05-20T00:00Z[UTC]" )
+                      .map( ZonedDateTime::parse ).collect( Collectors.toList() ),
+                List.of()
+            },
+            l_return.stream().map( ITerm::raw ).toArray()
+        );
+
+        Assertions.assertSame( CCronExpression.of( "@monthly" ), CCronExpression.of( "@monthly" ) );
+        Assertions.assertEquals(
+            ZonedDateTime.parse( "2016-06-01T00:00Z[UTC]" ),
+            CCronExpression.of( "@monthly" ).next( ZonedDateTime.parse( "2016-05-01T00:00Z[UTC]" ) )
+        );
+        Stream.of( "61 * * * *", "* * *", "* * * * 8", "5-1 * * * *", "* * * foo *", "*/0 * * * *" ).forEach( i -> Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CRecurrence().execute(
+                false, IContext.EMPTYPLAN, Stream.of( i, 1 ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return
+            )
+        ) );
+    }
+
+    /**
+     * test recurrence against a minute-by-minute scan
+     */
+    @Test
+    public void recurrencerandom()
+    {
+        final Random l_random = new Random( 42 );
+        final Map<String, Predicate<ZonedDateTime>> l_expressions = Map.of(
+            "*/7 * * * *", i -> i.getMinute() % 7 == 0,
+            "0 */5 * * *", i -> i.getMinute() == 0 && i.getHour() % 5 == 0,
+            "15,45 8-17 * * mon-fri",
+            i -> i.getMinute() % 30 == 15 && i.getHour() >= 8 && i.getHour() <= 17 && i.getDayOfWeek().getValue() <= 5,
+            "0 12 1,15 * *", i -> i.getMinute() == 0 && i.getHour() == 12 && ( i.getDayOfMonth() == 1 || i.getDayOfMonth() == 15 ),
+            "30 6 13 * fri", i -> i.getMinute() == 30 && i.getHour() == 6 && ( i.getDayOfMonth() == 13 || i.getDayOfWeek() == DayOfWeek.FRIDAY ),
+            "5-10/2 3 * jan,jul sun", i -> i.getMinute() % 2 == 1 && i.getMinute() >= 5 && i.getMinute() <= 10 && i.getHour() == 3
+                                           && i.getMonthValue() % 6 == 1 && i.getDayOfWeek() == DayOfWeek.SUNDAY,
+            "0 0 * * 7", i -> i.getMinute() == 0 && i.getHour() == 0 && i.getDayOfWeek() == DayOfWeek.SUNDAY
+        );
+        final List<String> l_keys = l_expressions.keySet().stream().sorted().collect( Collectors.toList() );
+
+        IntStream.range( 0, 200 ).forEach( i ->
+        {
+            final String l_expression = l_keys.get( l_random.nextInt( l_keys.size() ) );
+            final ZonedDateTime l_after = ZonedDateTime.parse( "2015-01-01T00:00Z[UTC]" )
+                                                       .plusMinutes( l_random.nextInt( 5000000 ) )
+                                                       .plusSeconds( l_random.nextInt( 60 ) );
+            final ZonedDateTime l_next = CCronExpression.of( l_expression ).next( l_after );
+
+            ZonedDateTime l_expected = l_after.truncatedTo( ChronoUnit.MINUTES ).plusMinutes( 1 );
+            while ( !l_expressions.get( l_expression ).test( l_expected ) )
+                l_expected = l_expected.plusMinutes( 1 );
+
+            Assertions.assertEquals( l_expected, l_next, l_expression + " after " + l_after );
+        } );
+    }
+
+    /**
+     * test comparison actions
+     */
+    @Test
+    public void compare()
+    {
+        final ZonedDateTime l_datetime = ZonedDateTime.parse( "2016-03-27T01:30:00.000000001+01:00[Europe/Berlin]" );
+        final ZonedDateTime l_same = l_datetime.withZoneSameInstant( ZoneId.of( "Asia/Tokyo" ) );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        Stream.of( new CBefore(), new CAfter(), new CEqual() ).forEach( i -> i.execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_datetime, l_datetime.plusNanos( 1 ), CCompactDateTime.of( l_same ), l_datetime, l_datetime, l_datetime.minusSeconds( 1 ) )
+                  .map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        ) );
+
+        Assertions.assertArrayEquals(
+            new Object[]{true, false, false, false, false, true, false, true, false},
+            l_return.stream().map( ITerm::raw ).toArray()
+        );
+
+        l_return.clear();
+        new CBefore().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "pivot", l_datetime, l_datetime.minusNanos( 1 ), l_same, l_datetime.toInstant().toEpochMilli() ).map( CRawTerm::of )
+                  .collect( Collectors.toList() ),
+            l_return
+        );
+        new CWithin().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of(
+                l_datetime, l_datetime.plusHours( 1 ),
+                l_same, l_datetime.plusHours( 1 ), l_datetime.plusMinutes( 61 ), l_datetime.minusNanos( 1 )
+            ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertArrayEquals(
+            new Object[]{true, false, true, true, true, false, false},
+            l_return.stream().map( ITerm::raw ).toArray()
+        );
+
+        Stream.of( Stream.of( l_datetime, l_same, l_datetime ), Stream.of( "x", l_datetime ), Stream.of( "pivot", l_datetime, "x" ) )
+              .forEach( i -> Assertions.assertThrows(
+                  CExecutionIllegealArgumentException.class,
+                  () -> new CBefore().execute( false, IContext.EMPTYPLAN, i.map( CRawTerm::of ).collect( Collectors.toList() ), l_return )
+              ) );
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CWithin().execute( false, IContext.EMPTYPLAN, Stream.of( l_datetime, l_same, "x" ).map( CRawTerm::of )
+                                                                          .collect( Collectors.toList() ), l_return )
+        );
+
+        final Random l_random = new Random( 42 );
+        assertparallel(
+            new CAfter(),
+            Stream.concat(
+                Stream.of( "pivot", l_datetime ),
+                IntStream.range( 0, 3 * CDateTimeCommon.PARALLELTHRESHOLD ).mapToObj( i -> l_datetime.plusMinutes( l_random.nextInt( 2000 ) - 1000 ) )
+            ).map( CRawTerm::of ).collect( Collectors.toList() )
+        );
+        assertparallel(
+            new CWithin(),
+            Stream.concat(
+                Stream.of( l_datetime, l_datetime.plusMinutes( 500 ) ),
+                IntStream.range( 0, 3 * CDateTimeCommon.PARALLELTHRESHOLD ).mapToObj( i -> l_datetime.plusMinutes( l_random.nextInt( 2000 ) - 1000 ) )
+            ).map( CRawTerm::of ).collect( Collectors.toList() )
+        );
+    }
+
+    /**
+     * test instrumented action and metrics
+     *
+     * @throws Exception on JMX error
+     */
+    @Test
+    public void metrics() throws Exception
+    {
+        final ZonedDateTime l_datetime = ZonedDateTime.parse( "2016-03-27T01:30+01:00[Europe/Berlin]" );
+        final IAction l_action = CInstrumentedAction.of( new CToZone() );
+        final CActionMetrics l_metrics = ( (CInstrumentedAction) l_action ).metrics();
+        final List<ITerm> l_return = new ArrayList<>();
+
+        Assertions.assertSame( l_action, CInstrumentedAction.of( l_action ) );
+        Assertions.assertEquals( "datetime/tozone", l_metrics.name() );
+        l_metrics.reset();
+
+        l_action.execute( false, IContext.EMPTYPLAN, Stream.of( "UTC", l_datetime ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return );
+        Assertions.assertEquals( 0, l_metrics.snapshot().invocations() );
+
+        CActionMetrics.enabled( true );
+        try
+        {
+            l_action.execute(
+                false, IContext.EMPTYPLAN, Stream.of( "UTC", l_datetime, l_datetime ).map( CRawTerm::of ).collect( Collectors.toList() ), l_return
+            );
+            Assertions.assertThrows(
+                CExecutionIllegealArgumentException.class,
+                () -> l_action.execute( false, IContext.EMPTYPLAN, Stream.of( "Mars/Olympus", l_datetime ).map( CRawTerm::of )
+                                                                      .collect( Collectors.toList() ), l_return )
+            );
+
+            final CActionMetrics.CSnapshot l_snapshot = l_metrics.snapshot();
+            Assertions.assertEquals( 2, l_snapshot.invocations() );
+            Assertions.assertEquals( 2, l_snapshot.elements() );
+            Assertions.assertEquals( 1, l_snapshot.errors() );
+            Assertions.assertEquals( 0.5, l_snapshot.errorrate() );
+            Assertions.assertEquals( 2, Arrays.stream( l_snapshot.histogram() ).sum() );
+            Assertions.assertTrue( l_snapshot.quantile( 0.5 ) <= l_snapshot.quantile( 1 ) );
+            Assertions.assertTrue( l_snapshot.quantile( 1 ) >= l_snapshot.mean() );
+            Assertions.assertEquals( 2, CActionMetrics.snapshots().get( "datetime/tozone" ).invocations() );
+
+            final ObjectName l_name = CActionMetrics.jmx();
+            Assertions.assertEquals( l_name, CActionMetrics.jmx() );
+            Assertions.assertEquals( true, ManagementFactory.getPlatformMBeanServer().getAttribute( l_name, "Enabled" ) );
+            Assertions.assertEquals(
+                l_snapshot.quantile( 0.9 ),
+                ManagementFactory.getPlatformMBeanServer().invoke(
+                    l_name, "quantile", new Object[]{"datetime/tozone", 0.9}, new String[]{String.class.getName(), double.class.getName()}
+                )
+            );
+
+            ManagementFactory.getPlatformMBeanServer().invoke( l_name, "reset", new Object[0], new String[0] );
+            Assertions.assertEquals( 0, l_metrics.snapshot().invocations() );
+        }
+        finally
+        {
+            CActionMetrics.enabled( false );
+        }
+    }
+
+    /**
+     * test flight recorder events
+     *
+     * @param p_directory temporary directory
+     * @throws IOException on recording error
+     */
+    @Test
+    public void flightrecorder( @TempDir final Path p_directory ) throws IOException
+    {
+        final Path l_file = p_directory.resolve( "datetime.jfr" );
+        final CCache<Integer, String> l_cache = new CCache<>( "test", 1 );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        try ( Recording l_recording = new Recording() )
+        {
+            Stream.of( CActionEvent.NAME, CCacheEvent.NAME, CParseFallbackEvent.NAME ).forEach( i -> l_recording.enable( i ).withoutThreshold() );
+            l_recording.start();
+
+            new CCreate().execute(
+                false, IContext.EMPTYPLAN,
+                Stream.of( "1999-12-31T23:59:59+01:00[GMT+01:00]" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            );
+            new CHoursBetween().execute(
+                false, IContext.EMPTYPLAN,
+                Stream.of(
+                    ZonedDateTime.parse( "2016-03-27T01:30+01:00[Europe/Berlin]" ),
+                    ZonedDateTime.parse( "2016-03-28T01:30+02:00[Europe/Berlin]" )
+                ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            );
+            Assertions.assertThrows( DateTimeParseException.class, () -> CIsoParser.parse( "1999-12-31 23:59:59Z" ) );
+            IntStream.of( 1, 2, 2 ).forEach( i -> l_cache.get( i, String::valueOf ) );
+
+            l_recording.stop();
+            l_recording.dump( l_file );
+        }
+
+        final List<RecordedEvent> l_events = RecordingFile.readAllEvents( l_file );
+
+        final Map<String, RecordedEvent> l_actions = l_events.stream()
+                                                             .filter( i -> CActionEvent.NAME.equals( i.getEventType().getName() ) )
+                                                             .collect( Collectors.toMap( i -> i.getString( "action" ), i -> i, ( i, j ) -> j ) );
+        Assertions.assertEquals( 1, l_actions.get( "datetime/create" ).getInt( "results" ) );
+        Assertions.assertEquals( 2, l_actions.get( "datetime/hoursbetween" ).getInt( "arguments" ) );
+        Assertions.assertEquals( 1, l_actions.get( "datetime/hoursbetween" ).getInt( "results" ) );
+
+        Assertions.assertEquals(
+            List.of( "1999-12-31T23:59:59+01:00[GMT+01:00]:true", "1999-12-31 23:59:59Z:false" ),
+            l_events.stream()
+                    .filter( i -> CParseFallbackEvent.NAME.equals( i.getEventType().getName() ) )
+                    .map( i -> i.getString( "text" ) + ":" + i.getBoolean( "success" ) )
+                    .collect( Collectors.toList() )
+        );
+
+        Assertions.assertEquals(
+            List.of( "1:0", "2:1" ),
+            l_events.stream()
+                    .filter( i -> CCacheEvent.NAME.equals( i.getEventType().getName() ) )
+                    .filter( i -> "test".equals( i.getString( "cache" ) ) )
+                    .map( i -> i.getString( "key" ) + ":" + i.getInt( "evictions" ) )
+                    .collect( Collectors.toList() )
+        );
+        Assertions.assertTrue(
+            l_events.stream()
+                    .filter( i -> CCacheEvent.NAME.equals( i.getEventType().getName() ) )
+                    .filter( i -> "parse".equals( i.getString( "cache" ) ) )
+                    .anyMatch( i -> "1999-12-31T23:59:59+01:00[GMT+01:00]".equals( i.getString( "key" ) ) )
+        );
+    }
+
+    /**
+     * test zone conversion
+     */
+    @Test
+    public void tozone()
+    {
+        final ZonedDateTime l_datetime = ZonedDateTime.parse( "2016-03-27T01:30+01:00[Europe/Berlin]" );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CToZone().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "UTC", l_datetime, CCompactDateTime.of( l_datetime ), l_datetime.toInstant().toEpochMilli() ).map( CRawTerm::of )
+                  .collect( Collectors.toList() ),
+            l_return
+        );
+        new CToZone().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "Europe/Berlin", "Asia/Tokyo", l_datetime, l_datetime.plusHours( 1 ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertArrayEquals(
+            new Object[]{
+                ZonedDateTime.parse( "2016-03-27T00:30Z[UTC]" ), CCompactDateTime.of( ZonedDateTime.parse( "2016-03-27T00:30Z[UTC]" ) ),
+                ZonedDateTime.parse( "2016-03-27T00:30Z[UTC]" ),
+                l_datetime, ZonedDateTime.parse( "2016-03-27T09:30+09:00[Asia/Tokyo]" ),
+                ZonedDateTime.parse( "2016-03-27T03:30+02:00[Europe/Berlin]" ), ZonedDateTime.parse( "2016-03-27T10:30+09:00[Asia/Tokyo]" )
+            },
+            l_return.stream().map( ITerm::raw ).toArray()
+        );
+
+        Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> new CToZone().execute( false, IContext.EMPTYPLAN, Stream.of( "Mars/Olympus", l_datetime ).map( CRawTerm::of )
+                                                                          .collect( Collectors.toList() ), l_return )
+        );
+        Stream.of( Stream.of( l_datetime ), Stream.of( "UTC" ), Stream.of( "UTC", l_datetime, true ) )
+              .forEach( i -> Assertions.assertThrows(
+                  CExecutionIllegealArgumentException.class,
+                  () -> new CToZone().execute( false, IContext.EMPTYPLAN, i.map( CRawTerm::of ).collect( Collectors.toList() ), l_return )
+              ) );
+
+        final Random l_random = new Random( 42 );
+        assertparallel(
+            new CToZone(),
+            Stream.concat(
+                Stream.of( "America/New_York", "Australia/Lord_Howe" ),
+                IntStream.range( 0, 3 * CDateTimeCommon.PARALLELTHRESHOLD ).mapToObj( i -> l_datetime.plusMinutes( l_random.nextInt( 10000000 ) ) )
+            ).map( CRawTerm::of ).collect( Collectors.toList() )
+        );
+    }
+
+    /**
+     * test tozone around the transitions of a zone against the zone rules
+     *
+     * @param p_zone zone
+     */
+    @ParameterizedTest
+    @ValueSource( strings = {"Europe/Berlin", "America/New_York", "Australia/Lord_Howe", "Pacific/Apia", "+05:30"} )
+    public void tozonetransitions( final String p_zone )
+    {
+        final ZoneId l_zone = ZoneId.of( p_zone );
+        final List<ZonedDateTime> l_datetimes = Stream.concat(
+            l_zone.getRules().getTransitions().stream()
+                  .map( ZoneOffsetTransition::getInstant )
+                  .flatMap( i -> Stream.of( i.minusSeconds( 3600 ), i.minusNanos( 1 ), i, i.plusNanos( 1 ), i.plusSeconds( 3600 ) ) ),
+            Stream.of( Instant.parse( "2016-03-27T00:59:59.5Z" ), Instant.parse( "2016-10-30T01:00:00Z" ), Instant.parse( "2150-07-01T12:00:00Z" ) )
+        ).map( i -> ZonedDateTime.ofInstant( i, ZoneOffset.UTC ) ).collect( Collectors.toList() );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CToZone().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.concat(
+                Stream.of( p_zone ),
+                l_datetimes.stream().flatMap( i -> Stream.of( i, i.toInstant().toEpochMilli() ) )
+            ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals(
+            l_datetimes.stream()
+                       .flatMap( i -> Stream.of( i, i.truncatedTo( ChronoUnit.MILLIS ) ) )
+                       .map( i -> i.withZoneSameInstant( l_zone ) )
+                       .collect( Collectors.toList() ),
+            l_return.stream().map( ITerm::raw ).collect( Collectors.toList() )
+        );
+    }
+
+    /**
+     * test zone transition table against the zone rules
+     *
+     * @param p_zone zone
+     */
+    @ParameterizedTest
+    @ValueSource( strings = {"Europe/Berlin", "America/New_York", "Australia/Lord_Howe", "Asia/Kolkata", "Pacific/Apia", "UTC", "+05:30"} )
+    public void zonetransitions( final String p_zone )
+    {
+        final ZoneId l_zone = ZoneId.of( p_zone );
+        final CZoneTransitions l_transitions = CZoneTransitions.of( l_zone );
+        final Random l_random = new Random( 42 );
+
+        Stream.concat(
+            IntStream.range( 0, 20000 ).mapToObj( i -> Instant.ofEpochSecond( -7000000000L + ( l_random.nextLong() >>> 1 ) % 14000000000L ) ),
+            l_zone.getRules().getTransitions().stream().flatMap( i -> Stream.of( i.getInstant().minusSeconds( 1 ), i.getInstant() ) )
+        ).forEach( i -> Assertions.assertEquals( l_zone.getRules().getOffset( i ), l_transitions.offset( i.getEpochSecond() ), i.toString() ) );
+
+        Assertions.assertSame( l_transitions, CZoneTransitions.of( l_zone ) );
+    }
+
+    /**
+     * test between
+     *
+     * @param p_action action
+     * @param p_terms input terms
+     * @param p_value input values
+     */
+    @ParameterizedTest
+    @MethodSource( "generatebetween" )
+    public void between( final IAction p_action, final Stream<String> p_terms, final Stream<Number> p_value )
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        p_action.execute(
+            false, IContext.EMPTYPLAN,
+            p_terms.map( ZonedDateTime::parse ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertArrayEquals(
+            p_value.mapToLong( Number::longValue ).toArray(),
+            l_return.stream().map( ITerm::<Number>raw ).mapToLong( Number::longValue ).toArray()
+        );
+    }
+
+    /**
+     * test between result type
+     */
+    @Test
+    public void betweentype()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final ZonedDateTime l_start = ZonedDateTime.parse( "2001-01-15T10:16:13Z[Europe/London]" );
+
+        new CHoursBetween().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_start, l_start.plusDays( 2 ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CHoursBetween().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "integer", l_start, l_start.plusDays( 2 ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 2, l_return.size() );
+        Assertions.assertEquals( 48L, l_return.get( 0 ).<Object>raw() );
+        Assertions.assertEquals( 48, l_return.get( 1 ).<Object>raw() );
+
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class,
+                                 () -> new CHoursBetween().execute(
+                                     false, IContext.EMPTYPLAN,
+                                     Stream.of( "float", l_start, l_start ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                                     Collections.emptyList()
+                                 )
+        );
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class,
+                                 () -> new CSecondsBetween().execute(
+                                     false, IContext.EMPTYPLAN,
+                                     Stream.of( "integer", l_start, l_start.plusYears( 100 ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                                     new ArrayList<>()
+                                 )
+        );
+    }
+
+    /**
+     * test the date
+     */
+    @Test
+    public void datestring()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final ZonedDateTime l_current = ZonedDateTime.now();
+
+        new CDate().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "now" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 5, l_return.size() );
+        Assertions.assertArrayEquals(
+            Stream.of(
+                l_current.getYear(),
+                l_current.getMonthValue(),
+                l_current.getDayOfMonth(),
+                l_current.getDayOfWeek().toString(),
+                l_current.getDayOfYear()
+            ).toArray(),
+            l_return.stream().map( ITerm::raw ).toArray()
+        );
+    }
+
+    /**
+     * test date error
+     */
+    @Test
+    public void dateerror()
+    {
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class,
+                                 () -> new CDate().execute(
+                                     false, IContext.EMPTYPLAN,
+                                     Stream.of( "xxx" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                                     Collections.emptyList()
+                                 )
+
+        );
+    }
+
+    /**
+     * test date by zone id structure
+     */
+    @Test
+    public void datezonedate()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final ZonedDateTime l_current = ZonedDateTime.now();
+
+        new CDate().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_current ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 5, l_return.size() );
+        Assertions.assertArrayEquals(
+            Stream.of(
+                l_current.getYear(),
+                l_current.getMonthValue(),
+                l_current.getDayOfMonth(),
+                l_current.getDayOfWeek().toString(),
+                l_current.getDayOfYear()
+            ).toArray(),
+            l_return.stream().map( ITerm::raw ).toArray()
+        );
+    }
+
+    /**
+     * checks that the parallel and sequential execution returns the same results
+     *
+     * @param p_action action
+     * @param p_argument arguments
+     */
+    private static void assertparallel( final IAction p_action, final List<ITerm> p_argument )
+    {
+        final List<ITerm> l_sequential = new ArrayList<>();
+        final List<ITerm> l_parallel = new ArrayList<>();
+
+        p_action.execute( false, IContext.EMPTYPLAN, p_argument, l_sequential );
+        p_action.execute( true, IContext.EMPTYPLAN, p_argument, l_parallel );
+
+        Assertions.assertFalse( l_sequential.isEmpty() );
+        Assertions.assertArrayEquals( l_sequential.stream().map( ITerm::raw ).toArray(), l_parallel.stream().map( ITerm::raw ).toArray() );
     }
 }
@@ -0,0 +1,201 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.datetime;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.lightjason.agentspeak.testing.IBaseTest;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+
+/**
+ * test of the iso-8601 parser against the jdk parser
+ */
+public final class TestCIsoParser extends IBaseTest
+{
+    /**
+     * number of random strings
+     */
+    private static final int RANDOMSTRINGS = 200000;
+    /**
+     * zones of the random strings
+     */
+    private static final List<String> ZONES = ZoneId.getAvailableZoneIds().stream().sorted().collect( Collectors.toList() );
+    /**
+     * offset-based regions of the random strings
+     */
+    private static final String[] REGIONS = {"UTC", "GMT", "UT", "UTC+01:00", "GMT-05:30", "UT+3", "GMT0", "Z", "+02:00"};
+
+    /**
+     * test of common strings, which must be parsed directly
+     *
+     * @param p_text date-time string
+     */
+    @ParameterizedTest
+    @ValueSource( strings = {
+        "2010-05-04T10:17:13Z[America/New_York]",
+        "2010-05-04T10:17:13Z",
+        "2010-05-04T10:17Z",
+        "2010-05-04t10:17:13.5+02:00",
+        "2005-01-15T10:23:12.999989800Z[Europe/London]",
+        "2016-03-27T02:30:00+01:00[Europe/Berlin]",
+        "2016-10-30T02:30:00+01:00[Europe/Berlin]",
+        "2016-10-30T02:30:00+02:00[Europe/Berlin]",
+        "0000-01-01T00:00:00-18:00",
+        "9999-12-31T23:59:59.999999999+18:00[Pacific/Kiritimati]",
+        "2000-02-29T00:00:00+05:45[Asia/Kathmandu]",
+        "2010-05-04T10:17:13Z[UTC]",
+        "2010-05-04T10:17:13+01:00[GMT]",
+        "2010-05-04T10:17:13Z[UT]"
+    } )
+    public void direct( final String p_text )
+    {
+        Assertions.assertEquals( ZonedDateTime.parse( p_text ), CIsoParser.tryparse( p_text ) );
+        Assertions.assertEquals( ZonedDateTime.parse( p_text ), CIsoParser.parse( p_text ) );
+    }
+
+    /**
+     * test of unusual or invalid strings, which
+     * must be handled like the jdk parser
+     *
+     * @param p_text date-time string
+     */
+    @ParameterizedTest
+    @ValueSource( strings = {
+        "", "now", "2010-05-04", "2010-05-04T10:17", "2010-05-04T10:17:13",
+        "+12010-05-04T10:17:13Z", "-0001-05-04T10:17:13Z", "2010-5-04T10:17:13Z",
+        "2010-05-04T10:17:13.Z", "2010-05-04T10:17:13.1234567890Z", "2010-05-04T10:17:60Z", "2010-05-04T24:00:00Z",
+        "2010-02-29T10:17:13Z", "2010-04-31T10:17:13Z", "2010-13-01T10:17:13Z", "2010-00-01T10:17:13Z",
+        "2010-05-04T10:17:13z", "2010-05-04T10:17:13+01", "2010-05-04T10:17:13+0100", "2010-05-04T10:17:13+01:00:30",
+        "2010-05-04T10:17:13+19:00", "2010-05-04T10:17:13+18:01", "2010-05-04T10:17:13+01:60",
+        "2010-05-04T10:17:13Z[UTC+01:00]", "2010-05-04T10:17:13Z[GMT0]", "2010-05-04T10:17:13Z[UTX]",
+        "2010-05-04T10:17:13Z[Z]", "2010-05-04T10:17:13+01:00[GMT+01:00]",
+        "2010-05-04T10:17:13+01:00[+01:00]", "2010-05-04T10:17:13Z[Etc/GMT+1]", "2010-05-04T10:17:13Z[Unknown/Zone]",
+        "2010-05-04T10:17:13Z[europe/berlin]", "2010-05-04T10:17:13Z[Europe/Berlin", "2010-05-04T10:17:13Z[]",
+        "2010-05-04T10:17:13Z[Europe/Berlin]x", "2010-05-04T10:17:13Z ", " 2010-05-04T10:17:13Z", "2010-05-04 10:17:13Z",
+        "\uff12\uff10\uff11\uff10-05-04T10:17:13Z"
+    } )
+    public void unusual( final String p_text )
+    {
+        assertequivalent( p_text );
+    }
+
+    /**
+     * test of random strings
+     */
+    @Test
+    public void random()
+    {
+        final Random l_random = new Random( 42 );
+        IntStream.range( 0, RANDOMSTRINGS ).mapToObj( i -> randomdatetime( l_random ) ).forEach( TestCIsoParser::assertequivalent );
+    }
+
+    /**
+     * checks that the parser returns the same result
+     * or the same error as the jdk parser
+     *
+     * @param p_text date-time string
+     */
+    private static void assertequivalent( final String p_text )
+    {
+        ZonedDateTime l_expected = null;
+        try
+        {
+            l_expected = ZonedDateTime.parse( p_text );
+        }
+        catch ( final DateTimeParseException l_exception )
+        {
+            Assertions.assertThrows( DateTimeParseException.class, () -> CIsoParser.parse( p_text ), p_text );
+            Assertions.assertNull( CIsoParser.tryparse( p_text ), p_text );
+            return;
+        }
+
+        final ZonedDateTime l_result = CIsoParser.parse( p_text );
+        Assertions.assertEquals( l_expected, l_result, p_text );
+        Assertions.assertEquals( l_expected.getZone().getClass(), l_result.getZone().getClass(), p_text );
+    }
+
+    /**
+     * creates a random date-time string, which
+     * contains also invalid and unusual fields
+     *
+     * @param p_random random generator
+     * @return date-time string
+     */
+    private static String randomdatetime( final Random p_random )
+    {
+        final StringBuilder l_text = new StringBuilder();
+        l_text.append( String.format( "%04d-%02d-%02d", p_random.nextInt( 10000 ), p_random.nextInt( 14 ), p_random.nextInt( 33 ) ) );
+        l_text.append( p_random.nextInt( 20 ) == 0 ? 't' : 'T' );
+        l_text.append( String.format( "%02d:%02d", p_random.nextInt( 25 ), p_random.nextInt( 61 ) ) );
+
+        if ( p_random.nextInt( 4 ) > 0 )
+        {
+            l_text.append( String.format( ":%02d", p_random.nextInt( 61 ) ) );
+            if ( p_random.nextBoolean() )
+            {
+                l_text.append( '.' );
+                IntStream.range( 0, p_random.nextInt( 11 ) ).forEach( i -> l_text.append( p_random.nextInt( 10 ) ) );
+            }
+        }
+
+        switch ( p_random.nextInt( 6 ) )
+        {
+            case 0:
+                l_text.append( 'Z' );
+                break;
+
+            case 1:
+                l_text.append( p_random.nextInt( 10 ) == 0 ? "z" : String.format( "%+03d", p_random.nextInt( 37 ) - 18 ) );
+                break;
+
+            default:
+                l_text.append( String.format(
+                    "%c%02d:%02d", p_random.nextBoolean() ? '+' : '-', p_random.nextInt( 20 ), p_random.nextInt( 4 ) * 15 + p_random.nextInt( 2 )
+                ) );
+        }
+
+        switch ( p_random.nextInt( 4 ) )
+        {
+            case 0:
+                return l_text.toString();
+
+            case 1:
+                return l_text.append( '[' ).append( REGIONS[p_random.nextInt( REGIONS.length )] ).append( ']' ).toString();
+
+            default:
+                return l_text.append( '[' ).append( ZONES.get( p_random.nextInt( ZONES.size() ) ) ).append( ']' ).toString();
+        }
+    }
+
+}